@@ -26,14 +26,22 @@ sourceSets {
         java.srcDir("test")
         resources.srcDir("testResources")
     }
+    create("jmh") {
+        java.srcDir("jmh")
+    }
 }
 
 configurations["manualImplementation"].extendsFrom(configurations["implementation"])
 configurations["manualRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
 configurations["manualCompileOnly"].extendsFrom(configurations["compileOnly"])
+configurations["jmhImplementation"].extendsFrom(configurations["implementation"])
+configurations["jmhRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
 
 dependencies {
     "manualImplementation"(sourceSets["main"].output)
+    "jmhImplementation"(sourceSets["main"].output)
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks {
@@ -53,6 +61,20 @@ tasks {
     }
 }
 
+// Runs the benchmarks with the allocation profiler, e.g. ./gradlew jmh -Pjmh.include=RtfWriterBenchmark
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("jmh/results.json")
+    args("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.path)
+    (project.findProperty("jmh.include") as String?)?.let { args(it) }
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+}
+
 tasks.clean {
     delete("$projectDir/out")
 }
@@ -0,0 +1,143 @@
+package com.lowagie.text.rtf;
+
+import com.lowagie.text.Cell;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.Image;
+import com.lowagie.text.List;
+import com.lowagie.text.ListItem;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Table;
+import com.lowagie.text.rtf.style.RtfFont;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end benchmarks of RtfWriter2 for documents dominated by text, tables, lists or images.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RtfWriterBenchmark {
+
+    private static final String TEXT =
+        "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt " +
+        "ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation {ullamco} " +
+        "laboris nisi ut aliquip ex ea commodo consequat. Grüße, € 100.\tTab\nLine";
+
+    private final Font bold = new RtfFont("Arial", 10, Font.BOLD, Color.BLACK);
+    private final Font plain = new RtfFont("Times New Roman", 11);
+    private final Font colored = new Font(Font.HELVETICA, 9, Font.ITALIC, Color.BLUE);
+    private byte[] png;
+    private byte[] jpeg;
+
+    @Setup
+    public void setup() throws IOException {
+        BufferedImage bi = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = bi.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 200, 100);
+        g.setColor(Color.RED);
+        g.drawString("rtf-gen", 20, 50);
+        g.dispose();
+        png = encode(bi, "png");
+        jpeg = encode(bi, "jpg");
+    }
+
+    private static byte[] encode(BufferedImage bi, String format) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ImageIO.write(bi, format, bos);
+        return bos.toByteArray();
+    }
+
+    private static byte[] write(DocumentBody body) throws DocumentException, IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Document doc = new Document();
+        RtfWriter2.getInstance(doc, bos);
+        doc.open();
+        body.addTo(doc);
+        doc.close();
+        return bos.toByteArray();
+    }
+
+    private interface DocumentBody {
+
+        void addTo(Document doc) throws DocumentException, IOException;
+    }
+
+    @Benchmark
+    public byte[] text() throws DocumentException, IOException {
+        return write(doc -> {
+            for (int i = 0; i < 500; i++) {
+                Paragraph p = new Paragraph(TEXT, i % 3 == 0 ? bold : plain);
+                p.add(new Phrase(" " + i, colored));
+                doc.add(p);
+            }
+        });
+    }
+
+    @Benchmark
+    public byte[] table() throws DocumentException, IOException {
+        return write(doc -> {
+            Table table = new Table(6);
+            table.setWidth(100);
+            table.setPadding(2);
+            Cell header = new Cell(new Phrase("Header", bold));
+            header.setHeader(true);
+            header.setColspan(6);
+            header.setBackgroundColor(Color.LIGHT_GRAY);
+            table.addCell(header);
+            table.endHeaders();
+            for (int i = 0; i < 300 * 6; i++) {
+                table.addCell(new Phrase("cell " + i, i % 2 == 0 ? plain : colored));
+            }
+            doc.add(table);
+        });
+    }
+
+    @Benchmark
+    public byte[] list() throws DocumentException, IOException {
+        return write(doc -> {
+            for (int i = 0; i < 50; i++) {
+                List list = new List(i % 2 == 0, 20);
+                for (int j = 0; j < 10; j++) {
+                    list.add(new ListItem("item " + j, plain));
+                }
+                List sub = new List(false, 10);
+                sub.add(new ListItem("nested", colored));
+                list.add(sub);
+                doc.add(list);
+            }
+        });
+    }
+
+    @Benchmark
+    public byte[] image() throws DocumentException, IOException {
+        return write(doc -> {
+            for (int i = 0; i < 50; i++) {
+                doc.add(Image.getInstance(i % 2 == 0 ? png : jpeg));
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.lowagie.text.rtf;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
+import com.lowagie.text.rtf.style.RtfFont;
+import com.lowagie.text.rtf.style.RtfFontList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the low level building blocks used while writing every document.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RtfWriterMicroBenchmark {
+
+    private static final String LATIN_TEXT =
+        "The quick brown fox jumps over the lazy dog. {Braces} and \\backslashes\\ need escaping.";
+    private static final String UNICODE_TEXT =
+        "Grüße aus Köln, Съешь же ещё этих мягких французских булок, 中文文本 €";
+    private static final byte[] CONTROL_WORD = {'\\', 'c', 'e', 'l', 'l', 'x'};
+
+    private final RtfByteArrayBuffer buffer = new RtfByteArrayBuffer();
+    private RtfFontList fontList;
+    private RtfFont[] fonts;
+
+    @Setup
+    public void setup() {
+        RtfDocument doc = new RtfDocument();
+        fontList = doc.getDocumentHeader().getFontList();
+        String[] names = {"Arial", "Times New Roman", "Courier New", "Verdana", "Tahoma", "Georgia", "Calibri", "Cambria"};
+        fonts = new RtfFont[names.length];
+        for (int i = 0; i < names.length; i++) {
+            fonts[i] = new RtfFont(doc, new RtfFont(names[i], 10 + i, Font.NORMAL));
+        }
+    }
+
+    @Benchmark
+    public long writeStringLatin() throws IOException {
+        buffer.reset();
+        RtfDocument.writeString(buffer, LATIN_TEXT, false, false, false);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public long writeStringUnicode() throws IOException {
+        buffer.reset();
+        RtfDocument.writeString(buffer, UNICODE_TEXT, false, true, false);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public byte[] byteArrayBuffer() {
+        RtfByteArrayBuffer bab = new RtfByteArrayBuffer();
+        for (int i = 0; i < 1000; i++) {
+            bab.write(CONTROL_WORD);
+            bab.writeInt(i * 37);
+            bab.write(' ');
+        }
+        return bab.toByteArray();
+    }
+
+    @Benchmark
+    public int getFontNumber() {
+        int sum = 0;
+        for (RtfFont font : fonts) {
+            sum += fontList.getFontNumber(font);
+        }
+        return sum;
+    }
+}
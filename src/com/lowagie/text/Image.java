@@ -50,10 +50,10 @@ package com.lowagie.text;
 
 import javax.imageio.IIOException;
 import javax.imageio.ImageIO;
-import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
 import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -150,33 +150,27 @@ public class Image extends Rectangle {
         this.originalType = originalType;
     }
 
-    private static final class ImageInfo {
-
-        final BufferedImage image;
-        final int type;
-
-        ImageInfo(BufferedImage image, int type) {
-            this.image = image;
-            this.type = type;
-        }
+    private Image(URL url, byte[] originalData, ImageHeader header) {
+        this(url, originalData, header.width, header.height, header.type);
     }
 
-    private Image(URL url, byte[] originalData, ImageInfo info) {
-        this(url, originalData, info.image.getWidth(), info.image.getHeight(), info.type);
-    }
-
-    private static ImageInfo readImage(Object input) throws IOException {
+    /**
+     * Reads the dimensions and format of an image that is not recognized by
+     * {@link ImageHeader}, using the ImageIO reader metadata. No pixel data is decoded.
+     */
+    private static ImageHeader readImage(InputStream input) throws IOException {
         try (ImageInputStream iis = ImageIO.createImageInputStream(input)) {
             if (iis == null)
                 throw new IIOException("Can't create an ImageInputStream!");
             Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
             if (readers.hasNext()) {
                 ImageReader reader = readers.next();
-                ImageReadParam param = reader.getDefaultReadParam();
                 reader.setInput(iis, true, true);
-                BufferedImage bi;
+                int width;
+                int height;
                 try {
-                    bi = reader.read(0, param);
+                    width = reader.getWidth(0);
+                    height = reader.getHeight(0);
                 } finally {
                     reader.dispose();
                 }
@@ -193,13 +187,21 @@ public class Image extends Rectangle {
                 } else {
                     type = ORIGINAL_NONE;
                 }
-                return new ImageInfo(bi, type);
+                return new ImageHeader(width, height, type);
             } else {
                 throw new IOException("Cannot detect image format");
             }
         }
     }
 
+    private static ImageHeader readHeader(byte[] data) throws IOException {
+        ImageHeader header = ImageHeader.read(new ByteArrayInputStream(data));
+        if (header == null) {
+            header = readImage(new ByteArrayInputStream(data));
+        }
+        return header;
+    }
+
     /**
      * Gets an instance of an Image.
      *
@@ -208,15 +210,32 @@ public class Image extends Rectangle {
      * @throws IOException
      */
     public static Image getInstance(URL url) throws IOException {
-        ImageInfo info;
-        try (InputStream is = url.openStream()) {
-            info = readImage(is);
+        ImageHeader header;
+        try (InputStream is = new BufferedInputStream(url.openStream())) {
+            header = ImageHeader.read(is);
+        }
+        if (header == null) {
+            try (InputStream is = url.openStream()) {
+                header = readImage(is);
+            }
         }
-        return new Image(url, null, info);
+        return new Image(url, null, header);
     }
 
     /**
-     * Gets an instance of an Image.
+     * Gets an instance of an Image. Only the size and type of the image are read,
+     * the image data stays in the file.
+     *
+     * @param path the image file
+     * @return an Image
+     * @throws IOException
+     */
+    public static Image getInstance(Path path) throws IOException {
+        return getInstance(path.toUri().toURL());
+    }
+
+    /**
+     * Gets an instance of an Image. The image data is read into memory.
      *
      * @param filename a filename
      * @return an object of type <CODE>Gif</CODE>,<CODE>Jpeg</CODE> or
@@ -226,8 +245,7 @@ public class Image extends Rectangle {
     public static Image getInstance(String filename) throws IOException {
         Path path = Paths.get(filename);
         byte[] data = Files.readAllBytes(path);
-        ImageInfo info = readImage(new ByteArrayInputStream(data));
-        return new Image(path.toUri().toURL(), data, info);
+        return new Image(path.toUri().toURL(), data, readHeader(data));
     }
 
     /**
@@ -238,8 +256,7 @@ public class Image extends Rectangle {
      * @throws IOException
      */
     public static Image getInstance(byte[] imgb) throws IOException {
-        ImageInfo info = readImage(new ByteArrayInputStream(imgb));
-        return new Image(null, imgb, info);
+        return new Image(null, imgb, readHeader(imgb));
     }
 
     // copy constructor
@@ -435,4 +452,19 @@ public class Image extends Rectangle {
     public byte[] getOriginalData() {
         return this.originalData;
     }
+
+    /**
+     * Decodes the image. The decoded image is not kept by this Image,
+     * so every call reads the original data again.
+     *
+     * @return the decoded image, or <CODE>null</CODE> if the format can't be decoded by ImageIO
+     * @throws IOException on errors reading the image
+     */
+    public BufferedImage getBufferedImage() throws IOException {
+        if (this.originalData != null)
+            return ImageIO.read(new ByteArrayInputStream(this.originalData));
+        if (this.url != null)
+            return ImageIO.read(this.url);
+        return null;
+    }
 }
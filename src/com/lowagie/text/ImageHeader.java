@@ -0,0 +1,202 @@
+package com.lowagie.text;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The dimensions and format of an image, read from the container header
+ * without decoding any pixel data. Supports JPEG, PNG, GIF, BMP and placeable WMF.
+ */
+final class ImageHeader {
+
+    /**
+     * The width of the image in pixels (points for WMF).
+     */
+    final int width;
+    /**
+     * The height of the image in pixels (points for WMF).
+     */
+    final int height;
+    /**
+     * The Image.ORIGINAL_* type of the image.
+     */
+    final int type;
+
+    ImageHeader(int width, int height, int type) {
+        this.width = width;
+        this.height = height;
+        this.type = type;
+    }
+
+    /**
+     * Reads the image header from the stream. The stream is not closed.
+     *
+     * @param in The stream positioned at the start of the image data
+     * @return The header, or <code>null</code> if the format is not recognized or the header is malformed
+     * @throws IOException On errors reading the stream
+     */
+    static ImageHeader read(InputStream in) throws IOException {
+        try {
+            int b1 = readByte(in);
+            int b2 = readByte(in);
+            if (b1 == 0xFF && b2 == 0xD8)
+                return readJpeg(in);
+            if (b1 == 0x89 && b2 == 'P')
+                return readPng(in);
+            if (b1 == 'G' && b2 == 'I')
+                return readGif(in);
+            if (b1 == 'B' && b2 == 'M')
+                return readBmp(in);
+            if (b1 == 0xD7 && b2 == 0xCD)
+                return readWmf(in);
+            return null;
+        } catch (EOFException ex) {
+            return null;
+        }
+    }
+
+    private static ImageHeader readJpeg(InputStream in) throws IOException {
+        while (true) {
+            int marker = readByte(in);
+            if (marker != 0xFF)
+                return null;
+            do {
+                marker = readByte(in);
+            } while (marker == 0xFF);
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7))
+                continue; // standalone markers
+            if (marker == 0xD9 || marker == 0xDA)
+                return null; // no frame header before the scan data
+            int length = readUShortBE(in);
+            if (length < 2)
+                return null;
+            boolean sof = marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+            if (sof) {
+                readByte(in); // sample precision
+                int height = readUShortBE(in);
+                int width = readUShortBE(in);
+                if (width <= 0 || height <= 0)
+                    return null; // height defined by a DNL marker
+                return new ImageHeader(width, height, Image.ORIGINAL_JPEG);
+            }
+            skip(in, length - 2);
+        }
+    }
+
+    private static ImageHeader readPng(InputStream in) throws IOException {
+        if (readByte(in) != 'N' || readByte(in) != 'G')
+            return null;
+        skip(in, 4 + 4); // rest of the signature, IHDR length
+        if (readByte(in) != 'I' || readByte(in) != 'H' || readByte(in) != 'D' || readByte(in) != 'R')
+            return null;
+        int width = readIntBE(in);
+        int height = readIntBE(in);
+        if (width <= 0 || height <= 0)
+            return null;
+        return new ImageHeader(width, height, Image.ORIGINAL_PNG);
+    }
+
+    private static ImageHeader readGif(InputStream in) throws IOException {
+        if (readByte(in) != 'F')
+            return null;
+        skip(in, 3); // version
+        skip(in, 4); // logical screen size
+        int flags = readByte(in);
+        skip(in, 2);
+        if ((flags & 0x80) != 0) {
+            skip(in, 3 << ((flags & 0x07) + 1));
+        }
+        // the first image descriptor defines the image size, not the logical screen
+        while (true) {
+            int block = readByte(in);
+            if (block == 0x2C) {
+                skip(in, 4); // image position
+                int width = readUShortLE(in);
+                int height = readUShortLE(in);
+                if (width <= 0 || height <= 0)
+                    return null;
+                return new ImageHeader(width, height, Image.ORIGINAL_GIF);
+            } else if (block == 0x21) {
+                readByte(in); // extension label
+                int size;
+                while ((size = readByte(in)) != 0) {
+                    skip(in, size);
+                }
+            } else {
+                return null;
+            }
+        }
+    }
+
+    private static ImageHeader readBmp(InputStream in) throws IOException {
+        skip(in, 12); // file size, reserved, data offset
+        int headerSize = readIntLE(in);
+        int width;
+        int height;
+        if (headerSize == 12) {
+            width = readUShortLE(in);
+            height = readUShortLE(in);
+        } else if (headerSize >= 40) {
+            width = readIntLE(in);
+            height = Math.abs(readIntLE(in));
+        } else {
+            return null;
+        }
+        if (width <= 0 || height <= 0)
+            return null;
+        return new ImageHeader(width, height, Image.ORIGINAL_BMP);
+    }
+
+    private static ImageHeader readWmf(InputStream in) throws IOException {
+        if (readByte(in) != 0xC6 || readByte(in) != 0x9A)
+            return null;
+        skip(in, 2); // handle
+        int left = (short) readUShortLE(in);
+        int top = (short) readUShortLE(in);
+        int right = (short) readUShortLE(in);
+        int bottom = (short) readUShortLE(in);
+        int inch = readUShortLE(in);
+        if (inch == 0)
+            return null;
+        int width = Math.round((float) (right - left) / inch * 72f);
+        int height = Math.round((float) (bottom - top) / inch * 72f);
+        if (width <= 0 || height <= 0)
+            return null;
+        return new ImageHeader(width, height, Image.ORIGINAL_WMF);
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0)
+            throw new EOFException();
+        return b;
+    }
+
+    private static int readUShortBE(InputStream in) throws IOException {
+        return (readByte(in) << 8) | readByte(in);
+    }
+
+    private static int readUShortLE(InputStream in) throws IOException {
+        return readByte(in) | (readByte(in) << 8);
+    }
+
+    private static int readIntBE(InputStream in) throws IOException {
+        return (readUShortBE(in) << 16) | readUShortBE(in);
+    }
+
+    private static int readIntLE(InputStream in) throws IOException {
+        return readUShortLE(in) | (readUShortLE(in) << 16);
+    }
+
+    private static void skip(InputStream in, int n) throws IOException {
+        while (n > 0) {
+            long skipped = in.skip(n);
+            if (skipped <= 0) {
+                readByte(in);
+                skipped = 1;
+            }
+            n -= (int) skipped;
+        }
+    }
+}
@@ -54,6 +54,7 @@ package com.lowagie.text;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -212,6 +213,11 @@ public class Table extends Rectangle implements LargeElement {
      */
     private boolean mTableInserted = false;
 
+    /**
+     * The positions of the tables inserted since the last merge, or null if they have to be searched
+     */
+    private List<Point> insertedTables = new ArrayList<>();
+
     /**
      * Boolean to automatically fill empty cells before a table is rendered
      * (takes CPU so may be set to false in case of certainty)
@@ -252,6 +258,11 @@ public class Table extends Rectangle implements LargeElement {
      */
     protected boolean complete = true;
 
+    /**
+     * The number of leading rows that have already been written when the content was flushed.
+     */
+    private int writtenRows = 0;
+
     // constructors
 
     /**
@@ -320,6 +331,7 @@ public class Table extends Rectangle implements LargeElement {
         this.cellsFitPage = t.cellsFitPage;
         this.offset = t.offset;
         this.convert2pdfptable = t.convert2pdfptable;
+        this.insertedTables = null;
     }
 
     // implementation of the Element-methods
@@ -877,6 +889,9 @@ public class Table extends Rectangle implements LargeElement {
         }
 
         rows.get(aLocation.x).setElement(aTable, aLocation.y);
+        if (insertedTables != null) {
+            insertedTables.add(new Point(aLocation.x, aLocation.y));
+        }
 
         setCurrentLocationToNextValidPosition(aLocation);
     }
@@ -933,6 +948,7 @@ public class Table extends Rectangle implements LargeElement {
         if (column == columns) {
             curPosition.setLocation(curPosition.x + 1, 0);
         }
+        insertedTables = null;
     }
 
     /**
@@ -947,6 +963,7 @@ public class Table extends Rectangle implements LargeElement {
         }
         rows.remove(row);
         curPosition.setLocation(curPosition.x - 1, curPosition.y);
+        insertedTables = null;
         return true;
     }
 
@@ -959,6 +976,8 @@ public class Table extends Rectangle implements LargeElement {
         rows.add(new Row(columns));
         curPosition.setLocation(0, 0);
         lastHeaderRow = -1;
+        insertedTables = new ArrayList<>();
+        writtenRows = 0;
     }
 
     /**
@@ -979,8 +998,54 @@ public class Table extends Rectangle implements LargeElement {
             mTableInserted = false;
         }
         if (autoFillEmptyCells) {
-            fillEmptyMatrixCells();
+            if (complete) {
+                fillEmptyMatrixCells(rows.size());
+            } else {
+                // only the complete rows, the others still receive cells
+                Point position = curPosition;
+                fillEmptyMatrixCells(getCompleteRowCount());
+                curPosition = position;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of leading rows (header rows included) that can be written.
+     * For a complete table these are all rows. For an incomplete table these are the
+     * rows above the current position, without the last rows that contain cells spanning
+     * into the current row or below.
+     *
+     * @return the number of complete rows
+     */
+    public int getCompleteRowCount() {
+        if (complete)
+            return rows.size();
+        int count = Math.min(curPosition.x, rows.size());
+        int spanEnd = 0;
+        int completeRows = 0;
+        for (int i = 0; i < count; i++) {
+            Row row = rows.get(i);
+            for (int j = 0; j < columns; j++) {
+                Element element = row.getCell(j);
+                if (element instanceof Cell) {
+                    spanEnd = Math.max(spanEnd, i + ((Cell) element).getRowspan());
+                }
+            }
+            if (spanEnd <= i + 1) {
+                completeRows = i + 1;
+            }
         }
+        return completeRows;
+    }
+
+    /**
+     * Gets the number of leading rows that have already been written when the content was
+     * flushed. These are the header rows that are kept, the following rows have not been written yet.
+     *
+     * @return the number of written rows
+     */
+    public int getWrittenRowCount() {
+        return writtenRows;
     }
 
     // private helper classes
@@ -1002,201 +1067,290 @@ public class Table extends Rectangle implements LargeElement {
      * Integrates all added tables and recalculates column widths.
      */
     private void mergeInsertedTables() {
+        List<Point> positions = getInsertedTablePositions();
+        insertedTables = new ArrayList<>();
+        if (positions.isEmpty())
+            return;
+
         int i;
         int j;
         int[] lDummyWidths = new int[columns];     // to keep track in how many new cols this one will be split
         float[][] lDummyColumnWidths = new float[columns][]; // bugfix Tony Copping
         int[] lDummyHeights = new int[rows.size()]; // to keep track in how many new rows this one will be split
-        boolean isTable = false;
-        int lTotalColumns = 0;
+        boolean[] lTableRows = new boolean[rows.size()];
+        Arrays.fill(lDummyWidths, 1);
+        Arrays.fill(lDummyHeights, 1);
 
         Table lDummyTable;
 
         // first we'll add new columns when needed
-        // check one column at a time, find maximum needed nr of cols
-        // Search internal tables and find one with max columns
-        for (j = 0; j < columns; j++) {
-            // value to hold in how many columns the current one will be split
-            int lNewMaxColumns = 1;
-            float[] tmpWidths = null;
-            for (i = 0; i < rows.size(); i++) {
-                if (rows.get(i).getCell(j) instanceof Table) {
-                    isTable = true;
-                    lDummyTable = (Table) rows.get(i).getCell(j);
-                    if (tmpWidths == null) {
-                        tmpWidths = lDummyTable.widths;
-                        lNewMaxColumns = tmpWidths.length;
+        // the tables are visited one column at a time, find maximum needed nr of cols
+        // and the maximum needed nr of rows of every row
+        for (Point position : positions) {
+            i = position.x;
+            j = position.y;
+            lDummyTable = (Table) rows.get(i).getCell(j);
+            float[] tmpWidths = lDummyColumnWidths[j];
+            if (tmpWidths == null) {
+                tmpWidths = lDummyTable.widths;
+            } else {
+                int cols = lDummyTable.getDimension().width;
+                float[] tmpWidthsN = new float[cols * tmpWidths.length];
+                float tpW = 0;
+                tpW += tmpWidths[0];
+                float btW = 0;
+                btW += lDummyTable.widths[0];
+                float totW = 0;
+                int tpI = 0;
+                int btI = 0;
+                int totI = 0;
+                while (tpI < tmpWidths.length && btI < cols) {
+                    if (btW > tpW) {
+                        tmpWidthsN[totI] = tpW - totW;
+                        tpI++;
+                        if (tpI < tmpWidths.length) {
+                            tpW += tmpWidths[tpI];
+                        }
                     } else {
-                        int cols = lDummyTable.getDimension().width;
-                        float[] tmpWidthsN = new float[cols * tmpWidths.length];
-                        float tpW = 0;
-                        tpW += tmpWidths[0];
-                        float btW = 0;
-                        btW += lDummyTable.widths[0];
-                        float totW = 0;
-                        int tpI = 0;
-                        int btI = 0;
-                        int totI = 0;
-                        while (tpI < tmpWidths.length && btI < cols) {
-                            if (btW > tpW) {
-                                tmpWidthsN[totI] = tpW - totW;
-                                tpI++;
-                                if (tpI < tmpWidths.length) {
-                                    tpW += tmpWidths[tpI];
-                                }
-                            } else {
-                                tmpWidthsN[totI] = btW - totW;
-                                btI++;
-                                if (Math.abs(btW - tpW) < 0.0001) {
-                                    tpI++;
-                                    if (tpI < tmpWidths.length) {
-                                        tpW += tmpWidths[tpI];
-                                    }
-                                }
-                                if (btI < cols) {
-                                    btW += lDummyTable.widths[btI];
-                                }
+                        tmpWidthsN[totI] = btW - totW;
+                        btI++;
+                        if (Math.abs(btW - tpW) < 0.0001) {
+                            tpI++;
+                            if (tpI < tmpWidths.length) {
+                                tpW += tmpWidths[tpI];
                             }
-                            totW += tmpWidthsN[totI];
-                            totI++;
                         }
-                        tmpWidths = new float[totI];
-                        System.arraycopy(tmpWidthsN, 0, tmpWidths, 0, totI);
-                        lNewMaxColumns = totI;
+                        if (btI < cols) {
+                            btW += lDummyTable.widths[btI];
+                        }
                     }
+                    totW += tmpWidthsN[totI];
+                    totI++;
                 }
+                tmpWidths = new float[totI];
+                System.arraycopy(tmpWidthsN, 0, tmpWidths, 0, totI);
             }
             lDummyColumnWidths[j] = tmpWidths;
-            lTotalColumns += lNewMaxColumns;
-            lDummyWidths[j] = lNewMaxColumns;
+            lDummyWidths[j] = tmpWidths.length;
+            lDummyHeights[i] = Math.max(lDummyHeights[i], lDummyTable.getDimension().height);
+            lTableRows[i] = true;
         }
 
-        // next we'll add new rows when needed
+        int lTotalColumns = 0;
+        for (j = 0; j < columns; j++) {
+            lTotalColumns += lDummyWidths[j];
+        }
         int lTotalRows = 0;
+        boolean spannedFromAbove = false;
         for (i = 0; i < rows.size(); i++) {
-            // holds value in how many rows the current one will be split
-            int lNewMaxRows = 1;
-            for (j = 0; j < columns; j++) {
-                if (rows.get(i).getCell(j) instanceof Table) {
-                    isTable = true;
-                    lDummyTable = (Table) rows.get(i).getCell(j);
-                    if (lDummyTable.getDimension().height > lNewMaxRows) {
-                        lNewMaxRows = lDummyTable.getDimension().height;
+            lTotalRows += lDummyHeights[i];
+            if (lTableRows[i] && isSpannedFromAbove(rows.get(i))) {
+                spannedFromAbove = true;
+            }
+        }
+
+        if (lTotalColumns == columns && !spannedFromAbove) {
+            // no column is split: only the rows with tables are replaced,
+            // all other rows are kept as they are
+            List<Row> newRows = new ArrayList<>(lTotalRows);
+            for (i = 0; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                if (!lTableRows[i]) {
+                    newRows.add(row);
+                    continue;
+                }
+                int lDummyRow = newRows.size();
+                for (int k = 0; k < lDummyHeights[i]; k++) {
+                    newRows.add(new Row(columns));
+                }
+                for (j = 0; j < columns; j++) {
+                    Element aElement = row.getCell(j);
+                    if (aElement instanceof Table) {
+                        copyInsertedTable(newRows, (Table) aElement, lDummyRow, j, lDummyWidths[j], lDummyColumnWidths[j]);
+                    } else if (aElement instanceof Cell) {
+                        Cell aCell = (Cell) aElement;
+                        // the cell covers all rows of the split row, the rows below are already reserved
+                        aCell.setRowspan(aCell.getRowspan() + lDummyHeights[i] - 1);
+                        assumeTableDefaults(aCell);
+                        for (int k = 1; k < lDummyHeights[i]; k++) {
+                            newRows.get(lDummyRow + k).reserve(j, aCell.getColspan());
+                        }
+                        newRows.get(lDummyRow).addElement(aCell, j);
                     }
                 }
             }
-            lTotalRows += lNewMaxRows;
-            lDummyHeights[i] = lNewMaxRows;
+            rows = newRows;
+            return;
         }
 
-        if ((lTotalColumns != columns) || (lTotalRows != rows.size()) || isTable)    // NO ADJUSTMENT
-        {
-            // ** WIDTH
-            // set correct width for new columns
-            // divide width over new nr of columns
-            // Take new max columns of internal table and work out widths for each col
-            float[] lNewWidths = new float[lTotalColumns];
-            int lDummy = 0;
-            for (int tel = 0; tel < widths.length; tel++) {
-                if (lDummyWidths[tel] != 1) {
-                    // divide
-                    for (int tel2 = 0; tel2 < lDummyWidths[tel]; tel2++) {
-                        lNewWidths[lDummy] = widths[tel] * lDummyColumnWidths[tel][tel2] / 100f; // bugfix Tony Copping
-                        lDummy++;
-                    }
-                } else {
-                    lNewWidths[lDummy] = widths[tel];
+        // ** WIDTH
+        // set correct width for new columns
+        // divide width over new nr of columns
+        // Take new max columns of internal table and work out widths for each col
+        float[] lNewWidths = new float[lTotalColumns];
+        int lDummy = 0;
+        for (int tel = 0; tel < widths.length; tel++) {
+            if (lDummyWidths[tel] != 1) {
+                // divide
+                for (int tel2 = 0; tel2 < lDummyWidths[tel]; tel2++) {
+                    lNewWidths[lDummy] = widths[tel] * lDummyColumnWidths[tel][tel2] / 100f; // bugfix Tony Copping
                     lDummy++;
                 }
+            } else {
+                lNewWidths[lDummy] = widths[tel];
+                lDummy++;
             }
+        }
 
-            // ** FILL OUR NEW TABLE
-            // generate new table
-            // set new widths
-            // copy old values
-            List<Row> newRows = new ArrayList<>(lTotalRows);
-            for (i = 0; i < lTotalRows; i++) {
-                newRows.add(new Row(lTotalColumns));
-            }
-            int lDummyRow = 0;         // to remember where we are in the new, larger table
-            for (i = 0; i < rows.size(); i++) {
-                int lDummyColumn = 0;
-                for (j = 0; j < columns; j++) {
-                    if (rows.get(i).getCell(j) instanceof Table)       // copy values from embedded table
-                    {
-                        lDummyTable = (Table) rows.get(i).getCell(j);
+        // ** FILL OUR NEW TABLE
+        // generate new table
+        // set new widths
+        // copy old values
+        List<Row> newRows = new ArrayList<>(lTotalRows);
+        for (i = 0; i < lTotalRows; i++) {
+            newRows.add(new Row(lTotalColumns));
+        }
+        int lDummyRow = 0;         // to remember where we are in the new, larger table
+        for (i = 0; i < rows.size(); i++) {
+            int lDummyColumn = 0;
+            for (j = 0; j < columns; j++) {
+                if (rows.get(i).getCell(j) instanceof Table)       // copy values from embedded table
+                {
+                    lDummyTable = (Table) rows.get(i).getCell(j);
+                    copyInsertedTable(newRows, lDummyTable, lDummyRow, lDummyColumn, lDummyWidths[j], lDummyColumnWidths[j]);
+                } else        // copy others values
+                {
+                    Object aElement = getElement(i, j);
 
-                        // Work out where columns in table table correspond to columns in current table
-                        int[] colMap = new int[lDummyTable.widths.length + 1];
-                        int cb = 0;
-                        int ct = 0;
+                    if (aElement instanceof Cell) {
 
-                        for (; cb < lDummyTable.widths.length; cb++) {
-                            colMap[cb] = lDummyColumn + ct;
+                        // adjust spans for cell
+                        ((Cell) aElement).setRowspan(((Cell) rows.get(i).getCell(j)).getRowspan() + lDummyHeights[i] - 1);
+                        ((Cell) aElement).setColspan(((Cell) rows.get(i).getCell(j)).getColspan() + lDummyWidths[j] - 1);
 
-                            float wb = lDummyTable.widths[cb];
+                        // most likely this cell covers a larger area because of the row/cols splits : define not-to-be-filled cells
+                        placeCell(newRows, (Cell) aElement, new Point(lDummyRow, lDummyColumn));
+                    }
+                }
+                lDummyColumn += lDummyWidths[j];
+            }
+            lDummyRow += lDummyHeights[i];
+        }
 
-                            float wt = 0;
-                            while (ct < lDummyWidths[j]) {
-                                wt += lDummyColumnWidths[j][ct++];
-                                if (Math.abs(wb - wt) < 0.0001)
-                                    break;
-                            }
-                        }
-                        colMap[cb] = lDummyColumn + ct;
-
-                        // need to change this to work out how many cols to span
-                        for (int k = 0; k < lDummyTable.getDimension().height; k++) {
-                            for (int l = 0; l < lDummyTable.getDimension().width; l++) {
-                                Element lDummyElement = lDummyTable.getElement(k, l);
-                                if (lDummyElement != null) {
-                                    int col = lDummyColumn + l;
-
-                                    if (lDummyElement instanceof Cell) {
-                                        Cell lDummyC = (Cell) lDummyElement;
-                                        // Find col to add cell in and set col span
-                                        col = colMap[l];
-                                        int ot = colMap[l + lDummyC.getColspan()];
-
-                                        lDummyC.setColspan(ot - col);
-                                    }
-
-                                    newRows.get(k + lDummyRow).addElement(lDummyElement, col);  // use addElement to set reserved status ok in row
-                                }
-                            }
-                        }
-                    } else        // copy others values
-                    {
-                        Object aElement = getElement(i, j);
+        // Set our new matrix
+        columns = lTotalColumns;
+        rows = newRows;
+        this.widths = lNewWidths;
+    }
 
-                        if (aElement instanceof Cell) {
+    /**
+     * Gets the positions of the inserted tables, sorted by column and then by row.
+     *
+     * @return the positions of the tables that have to be merged
+     */
+    private List<Point> getInsertedTablePositions() {
+        List<Point> positions = new ArrayList<>();
+        if (insertedTables == null) {
+            for (int i = 0; i < rows.size(); i++) {
+                for (int j = 0; j < columns; j++) {
+                    if (rows.get(i).getCell(j) instanceof Table) {
+                        positions.add(new Point(i, j));
+                    }
+                }
+            }
+        } else {
+            for (Point position : insertedTables) {
+                // a position is skipped if its table has been removed since
+                if (position.x < rows.size() && position.y < columns && rows.get(position.x).getCell(position.y) instanceof Table) {
+                    positions.add(position);
+                }
+            }
+        }
+        positions.sort((p1, p2) -> p1.y != p2.y ? Integer.compare(p1.y, p2.y) : Integer.compare(p1.x, p2.x));
+        for (int k = positions.size() - 1; k > 0; k--) {
+            if (positions.get(k).equals(positions.get(k - 1))) {
+                positions.remove(k);
+            }
+        }
+        return positions;
+    }
 
-                            // adjust spans for cell
-                            ((Cell) aElement).setRowspan(((Cell) rows.get(i).getCell(j)).getRowspan() + lDummyHeights[i] - 1);
-                            ((Cell) aElement).setColspan(((Cell) rows.get(i).getCell(j)).getColspan() + lDummyWidths[j] - 1);
+    /**
+     * Checks if some columns of a row are covered by a cell of a row above.
+     *
+     * @param row the row to check
+     * @return true if a cell above spans into the row
+     */
+    private boolean isSpannedFromAbove(Row row) {
+        int j = 0;
+        while (j < columns) {
+            Element element = row.getCell(j);
+            if (element == null && row.isReserved(j)) {
+                return true;
+            }
+            j += element instanceof Cell ? ((Cell) element).getColspan() : 1;
+        }
+        return false;
+    }
 
-                            // most likely this cell covers a larger area because of the row/cols splits : define not-to-be-filled cells
-                            placeCell(newRows, (Cell) aElement, new Point(lDummyRow, lDummyColumn));
-                        }
+    /**
+     * Copies the cells of an inserted table into the new rows of this table.
+     *
+     * @param newRows      the new rows
+     * @param aTable       the inserted table
+     * @param aRow         the first new row of the inserted table
+     * @param aColumn      the first new column of the inserted table
+     * @param aWidth       the number of new columns the inserted table is split over
+     * @param columnWidths the widths of the new columns, in percentages of the old column
+     */
+    private static void copyInsertedTable(List<Row> newRows, Table aTable, int aRow, int aColumn, int aWidth, float[] columnWidths) {
+        // Work out where columns in table table correspond to columns in current table
+        int[] colMap = new int[aTable.widths.length + 1];
+        int cb = 0;
+        int ct = 0;
+
+        for (; cb < aTable.widths.length; cb++) {
+            colMap[cb] = aColumn + ct;
+
+            float wb = aTable.widths[cb];
+
+            float wt = 0;
+            while (ct < aWidth) {
+                wt += columnWidths[ct++];
+                if (Math.abs(wb - wt) < 0.0001)
+                    break;
+            }
+        }
+        colMap[cb] = aColumn + ct;
+
+        // need to change this to work out how many cols to span
+        for (int k = 0; k < aTable.getDimension().height; k++) {
+            for (int l = 0; l < aTable.getDimension().width; l++) {
+                Element lDummyElement = aTable.getElement(k, l);
+                if (lDummyElement != null) {
+                    int col = aColumn + l;
+
+                    if (lDummyElement instanceof Cell) {
+                        Cell lDummyC = (Cell) lDummyElement;
+                        // Find col to add cell in and set col span
+                        col = colMap[l];
+                        int ot = colMap[l + lDummyC.getColspan()];
+
+                        lDummyC.setColspan(ot - col);
                     }
-                    lDummyColumn += lDummyWidths[j];
+
+                    newRows.get(k + aRow).addElement(lDummyElement, col);  // use addElement to set reserved status ok in row
                 }
-                lDummyRow += lDummyHeights[i];
             }
-
-            // Set our new matrix
-            columns = lTotalColumns;
-            rows = newRows;
-            this.widths = lNewWidths;
         }
     }
 
     /**
      * adds new<CODE>Cell</CODE>'s to empty/null spaces.
      */
-    private void fillEmptyMatrixCells() {
+    private void fillEmptyMatrixCells(int rowCount) {
         try {
-            for (int i = 0; i < rows.size(); i++) {
+            for (int i = 0; i < rowCount; i++) {
                 for (int j = 0; j < columns; j++) {
                     if (!rows.get(i).isReserved(j)) {
                         addCell(defaultCell, new Point(i, j));
@@ -1404,11 +1558,16 @@ public class Table extends Rectangle implements LargeElement {
     @Override
     public void flushContent() {
         this.setNotAddedYet(false);
-        List<Row> headerrows = new ArrayList<>();
-        for (int i = 0; i < getLastHeaderRow() + 1; i++) {
-            headerrows.add(rows.get(i));
-        }
-        rows = headerrows;
+        // the written header rows are kept, as well as the rows that have not been written yet
+        int completeRows = Math.max(getCompleteRowCount(), writtenRows);
+        int headerRows = Math.min(getLastHeaderRow() + 1, completeRows);
+        List<Row> keptRows = new ArrayList<>(headerRows + rows.size() - completeRows);
+        keptRows.addAll(rows.subList(0, headerRows));
+        keptRows.addAll(rows.subList(completeRows, rows.size()));
+        rows = keptRows;
+        curPosition = new Point(curPosition.x - (completeRows - headerRows), curPosition.y);
+        writtenRows = headerRows;
+        insertedTables = null;
     }
 
     /**
@@ -131,6 +131,18 @@ public abstract class RtfAddableElement extends Chunk implements RtfBasicElement
         return RtfElement.intToByteArray(i);
     }
 
+    /**
+     * Writes the decimal representation of an integer to the OutputStream without
+     * creating an intermediate String or byte array.
+     *
+     * @param out The OutputStream to write to
+     * @param i   The integer to write
+     * @throws IOException On i/o errors.
+     */
+    public static void writeInt(OutputStream out, int i) throws IOException {
+        RtfElement.writeInt(out, i);
+    }
+
     /**
      * RtfAddableElement subclasses are never assumed to be empty.
      */
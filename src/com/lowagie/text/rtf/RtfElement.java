@@ -50,6 +50,7 @@ package com.lowagie.text.rtf;
 
 import com.lowagie.text.DocWriter;
 import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -96,6 +97,37 @@ public abstract class RtfElement implements RtfBasicElement {
         return DocWriter.getISOBytes(Integer.toString(i));
     }
 
+    /**
+     * Writes the decimal representation of an integer to the OutputStream without
+     * creating an intermediate String or byte array.
+     *
+     * @param out The OutputStream to write to
+     * @param i   The integer to write
+     * @throws IOException On i/o errors.
+     */
+    public static void writeInt(OutputStream out, int i) throws IOException {
+        if (out instanceof RtfByteArrayBuffer) {
+            ((RtfByteArrayBuffer) out).writeInt(i);
+            return;
+        }
+        if (i < 0) {
+            if (i == Integer.MIN_VALUE) {
+                out.write(intToByteArray(i));
+                return;
+            }
+            out.write('-');
+            i = -i;
+        }
+        int div = 1;
+        while (i / div >= 10) {
+            div *= 10;
+        }
+        while (div > 0) {
+            out.write('0' + i / div % 10);
+            div /= 10;
+        }
+    }
+
     /**
      * Writes the element content to the given output stream.
      */
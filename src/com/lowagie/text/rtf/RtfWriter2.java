@@ -53,8 +53,12 @@ import com.lowagie.text.rtf.document.RtfDocument;
 import com.lowagie.text.rtf.document.RtfDocumentSettings;
 import com.lowagie.text.rtf.text.RtfNewPage;
 
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * The RtfWriter allows the creation of rtf documents via the iText system
@@ -69,6 +73,41 @@ public class RtfWriter2 extends DocWriter {
      * The RtfDocument this RtfWriter is creating
      */
     private RtfDocument rtfDoc;
+    /**
+     * The channel the output is written to, or null if the output is not channel-backed
+     */
+    private final WritableByteChannel channel;
+    /**
+     * The stream that counts the bytes written to the OutputStream
+     */
+    private final CountingOutputStream counter;
+
+    /**
+     * An OutputStream that counts the bytes written to the underlying stream.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        /**
+         * The number of bytes written
+         */
+        private long count = 0;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
 
     /**
      * Constructs a new RtfWriter that listens to the specified Document and
@@ -78,9 +117,28 @@ public class RtfWriter2 extends DocWriter {
      * @param os  The OutputStream to write to
      */
     protected RtfWriter2(Document doc, OutputStream os) {
+        this(doc, os, os instanceof FileOutputStream ? ((FileOutputStream) os).getChannel() : null);
+    }
+
+    /**
+     * Constructs a new RtfWriter that listens to the specified Document and
+     * writes its output to the OutputStream. The document body is written
+     * directly to the channel that backs the OutputStream.
+     *
+     * @param doc     The Document that this RtfWriter listens to
+     * @param os      The OutputStream to write to
+     * @param channel The channel os writes to, or null
+     */
+    protected RtfWriter2(Document doc, OutputStream os, WritableByteChannel channel) {
+        this(doc, new CountingOutputStream(os), channel);
+    }
+
+    private RtfWriter2(Document doc, CountingOutputStream os, WritableByteChannel channel) {
         super(doc, os);
         doc.addDocListener(this);
         rtfDoc = new RtfDocument();
+        this.channel = channel;
+        this.counter = os;
     }
 
     /**
@@ -94,6 +152,17 @@ public class RtfWriter2 extends DocWriter {
         return new RtfWriter2(doc, os);
     }
 
+    /**
+     * Static method to generate RtfWriters that write to a channel
+     *
+     * @param doc     The Document that this RtfWriter listens to
+     * @param channel The channel to write to
+     * @return The new RtfWriter
+     */
+    public static RtfWriter2 getInstance(Document doc, WritableByteChannel channel) {
+        return new RtfWriter2(doc, Channels.newOutputStream(channel), channel);
+    }
+
     /**
      * Sets the header to use
      *
@@ -152,13 +221,23 @@ public class RtfWriter2 extends DocWriter {
     public void clearTextWrap() {
     }
 
+    /**
+     * Gets the number of bytes of the document written so far. The count is
+     * complete once the document has been closed.
+     *
+     * @return The number of bytes written.
+     */
+    public long getBytesWritten() {
+        return counter.count;
+    }
+
     /**
      * Opens the RtfDocument
      */
     @Override
     public void open() {
         super.open();
-        this.rtfDoc.open();
+        this.rtfDoc.open(os);
     }
 
     /**
@@ -169,7 +248,7 @@ public class RtfWriter2 extends DocWriter {
     public void close() {
         if (open) {
             try {
-                rtfDoc.writeDocument(os);
+                counter.count += rtfDoc.writeDocument(os, channel);
                 super.close();
                 this.rtfDoc = new RtfDocument();
             } catch (IOException ex) {
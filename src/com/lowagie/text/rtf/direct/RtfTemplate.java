@@ -0,0 +1,251 @@
+package com.lowagie.text.rtf.direct;
+
+import com.lowagie.text.DocWriter;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.ExceptionConverter;
+import com.lowagie.text.rtf.RtfAddableElement;
+import com.lowagie.text.rtf.RtfBasicElement;
+import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
+import com.lowagie.text.rtf.graphic.RtfImage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The RtfTemplate is a fragment of Elements that is converted to RTF only once
+ * and can then be added to the document many times. The variable parts of the
+ * fragment are parameters: the text returned by {@link #getParameter(String)} is
+ * used in the text of the Elements, and is replaced by the parameter values of
+ * every stamp of the template.<br /><br />
+ *
+ * <pre>
+ * RtfTemplate template = new RtfTemplate("name");
+ * template.add(new Paragraph("Dear " + template.getParameter("name") + ",", font));
+ * document.add(template.stamp("John"));
+ * </pre>
+ *
+ * The fragment is converted when it is first stamped into a document, on the thread
+ * that adds the stamp, so all fonts, colors and styles are resolved at that time. Elements that need unique ids, such as
+ * lists, share the ids between all stamps.
+ */
+public class RtfTemplate {
+
+    /**
+     * Counter to make the parameter markers of each template unique.
+     */
+    private static final AtomicInteger TEMPLATE_COUNT = new AtomicInteger();
+
+    /**
+     * The names of the parameters.
+     */
+    private final List<String> parameterNames;
+    /**
+     * The common start of the parameter markers of this template.
+     */
+    private final String markerPrefix;
+    /**
+     * The Elements of the fragment.
+     */
+    private final List<Element> elements = new ArrayList<>();
+    /**
+     * The fragment converted for the last RtfDocument it was stamped into.
+     */
+    private Compiled compiled = null;
+
+    /**
+     * The fragment converted to RTF for one RtfDocument.
+     */
+    private static final class Compiled {
+
+        /**
+         * The RtfDocument the fragment has been converted for.
+         */
+        final RtfDocument document;
+        /**
+         * The RTF code of the fragment between the parameters.
+         */
+        final byte[][] segments;
+        /**
+         * The index of the parameter written after each segment but the last one.
+         */
+        final int[] slots;
+
+        Compiled(RtfDocument document, byte[][] segments, int[] slots) {
+            this.document = document;
+            this.segments = segments;
+            this.slots = slots;
+        }
+    }
+
+    /**
+     * Constructs a RtfTemplate with the given parameters.
+     *
+     * @param parameterNames The names of the parameters of this template.
+     */
+    public RtfTemplate(String... parameterNames) {
+        this.parameterNames = Arrays.asList(parameterNames.clone());
+        this.markerPrefix = "RtfTemplate" + TEMPLATE_COUNT.incrementAndGet() + "P";
+    }
+
+    /**
+     * Gets the text that marks the parameter in the text of the fragment Elements.
+     *
+     * @param name The name of the parameter.
+     * @return The text to use in the fragment.
+     */
+    public String getParameter(String name) {
+        int index = this.parameterNames.indexOf(name);
+        if (index < 0)
+            throw new IllegalArgumentException("Unknown template parameter: " + name);
+        return this.markerPrefix + index + "E";
+    }
+
+    /**
+     * Adds an Element to the fragment.
+     *
+     * @param element The Element to add.
+     */
+    public synchronized void add(Element element) {
+        this.elements.add(element);
+        this.compiled = null;
+    }
+
+    /**
+     * Creates a stamp of this template that can be added to the document.
+     *
+     * @param values The values of the parameters, in the order of the parameter names.
+     * @return The element to add to the document.
+     */
+    public RtfAddableElement stamp(String... values) {
+        if (values.length != this.parameterNames.size())
+            throw new IllegalArgumentException("Template has " + this.parameterNames.size() + " parameters, " + values.length + " values given");
+        return new RtfTemplateStamp(this, values.clone());
+    }
+
+    /**
+     * Gets the fragment converted for the given RtfDocument, converting it if necessary.
+     */
+    private synchronized Compiled getCompiled(RtfDocument doc) {
+        if (this.compiled == null || this.compiled.document != doc) {
+            try {
+                this.compiled = compile(doc);
+            } catch (DocumentException | IOException e) {
+                throw new ExceptionConverter(e);
+            }
+        }
+        return this.compiled;
+    }
+
+    /**
+     * Converts the fragment to RTF for the given RtfDocument and splits it at the parameters.
+     */
+    private Compiled compile(RtfDocument doc) throws DocumentException, IOException {
+        byte[] content;
+        try (RtfByteArrayBuffer bab = new RtfByteArrayBuffer()) {
+            for (Element element : this.elements) {
+                for (RtfBasicElement rtfElement : doc.getMapper().mapElement(element)) {
+                    if (rtfElement == null)
+                        continue;
+                    if (rtfElement instanceof RtfImage) {
+                        ((RtfImage) rtfElement).setTopLevelElement(true);
+                    }
+                    rtfElement.writeContent(bab);
+                }
+            }
+            content = bab.toByteArray();
+        }
+        byte[] marker = DocWriter.getISOBytes(this.markerPrefix);
+        List<byte[]> segmentList = new ArrayList<>();
+        List<Integer> slotList = new ArrayList<>();
+        int start = 0;
+        int pos = 0;
+        while ((pos = indexOf(content, marker, pos)) >= 0) {
+            int end = pos + marker.length;
+            int index = 0;
+            while (end < content.length && content[end] >= '0' && content[end] <= '9') {
+                index = index * 10 + (content[end++] - '0');
+            }
+            if (end < content.length && content[end] == 'E' && index < this.parameterNames.size()) {
+                segmentList.add(Arrays.copyOfRange(content, start, pos));
+                slotList.add(index);
+                start = end + 1;
+                pos = start;
+            } else {
+                pos++;
+            }
+        }
+        segmentList.add(Arrays.copyOfRange(content, start, content.length));
+        int[] slots = new int[slotList.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = slotList.get(i);
+        }
+        return new Compiled(doc, segmentList.toArray(new byte[0][]), slots);
+    }
+
+    private static int indexOf(byte[] content, byte[] marker, int from) {
+        int last = content.length - marker.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < marker.length; j++) {
+                if (content[i + j] != marker[j])
+                    continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Writes the converted fragment with the given parameter values.
+     */
+    private static void write(Compiled compiled, OutputStream out, String[] values) throws IOException {
+        RtfDocument doc = compiled.document;
+        boolean softLineBreaks = doc.getDocumentSettings().isAlwaysGenerateSoftLinebreaks();
+        for (int i = 0; i < compiled.segments.length; i++) {
+            if (out instanceof RtfByteArrayBuffer) {
+                ((RtfByteArrayBuffer) out).append(compiled.segments[i]);
+            } else {
+                out.write(compiled.segments[i]);
+            }
+            if (i < compiled.slots.length && values[compiled.slots[i]] != null) {
+                doc.filterSpecialChar(out, values[compiled.slots[i]], false, softLineBreaks);
+            }
+        }
+    }
+
+    /**
+     * A stamp of the template with the parameter values.
+     */
+    private static final class RtfTemplateStamp extends RtfAddableElement {
+
+        private final RtfTemplate template;
+        private final String[] values;
+        private Compiled compiled = null;
+
+        RtfTemplateStamp(RtfTemplate template, String[] values) {
+            this.template = template;
+            this.values = values;
+        }
+
+        /**
+         * Converts the template when the stamp is added, so that the fonts and colors are
+         * registered before the document header is written and not while rendering.
+         */
+        @Override
+        public void setRtfDocument(RtfDocument doc) {
+            super.setRtfDocument(doc);
+            this.compiled = this.template.getCompiled(doc);
+        }
+
+        @Override
+        public void writeContent(OutputStream out) throws IOException {
+            RtfTemplate.write(this.compiled, out, this.values);
+        }
+    }
+}
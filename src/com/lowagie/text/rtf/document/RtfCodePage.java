@@ -97,7 +97,7 @@ public class RtfCodePage extends RtfElement implements RtfExtendedElement {
     public void writeDefinition(OutputStream result) throws IOException {
         result.write(ANSI);
         result.write(ANSI_CODEPAGE);
-        result.write(intToByteArray(1252));
+        writeInt(result, 1252);
         this.document.outputDebugLinebreak(result);
     }
 }
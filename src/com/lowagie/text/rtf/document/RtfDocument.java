@@ -49,16 +49,27 @@
 package com.lowagie.text.rtf.document;
 
 import com.lowagie.text.DocWriter;
+import com.lowagie.text.ExceptionConverter;
 import com.lowagie.text.rtf.RtfBasicElement;
 import com.lowagie.text.rtf.RtfElement;
 import com.lowagie.text.rtf.RtfMapper;
 import com.lowagie.text.rtf.document.output.*;
 import com.lowagie.text.rtf.graphic.RtfImage;
+import com.lowagie.text.rtf.graphic.RtfImageStore;
+import com.lowagie.text.rtf.table.RtfBorderStore;
+import com.lowagie.text.rtf.text.RtfChapter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The RtfDocument stores all document related data and also the main data stream.
@@ -85,9 +96,13 @@ public class RtfDocument extends RtfElement {
      */
     private final RtfDocumentHeader documentHeader;
     /**
-     * Stores integers that have been generated as unique random numbers
+     * The seed of the unique random numbers of this document
      */
-    private final Set<Integer> previousRandomInts = new HashSet<>();
+    private volatile int randomSeed = ThreadLocalRandom.current().nextInt();
+    /**
+     * The number of unique random numbers generated so far
+     */
+    private final AtomicInteger randomCount = new AtomicInteger();
     /**
      * Whether to automatically generate TOC entries for Chapters and Sections. Defaults to false
      */
@@ -100,6 +115,26 @@ public class RtfDocument extends RtfElement {
      * The last RtfBasicElement that was added directly to the RtfDocument.
      */
     private RtfBasicElement lastElementWritten = null;
+    /**
+     * Whether the document body is written directly to the target stream.
+     */
+    private boolean streaming = false;
+    /**
+     * Whether the document start and the document header have already been written.
+     */
+    private boolean headerWritten = false;
+    /**
+     * The RtfImageStore that shares the data of equal images.
+     */
+    private final RtfImageStore imageStore = new RtfImageStore();
+    /**
+     * The RtfBorderStore that shares the borders of table cells.
+     */
+    private final RtfBorderStore borderStore = new RtfBorderStore(this);
+    /**
+     * The elements that are rendered by the render Executor, in the order they were added
+     */
+    private final Deque<FutureTask<RtfByteArrayBuffer>> pendingElements = new ArrayDeque<>();
 
     /**
      * Constant for the Rtf document start
@@ -111,9 +146,16 @@ public class RtfDocument extends RtfElement {
     private static final byte[] FSC_TAB = DocWriter.getISOBytes("\\tab ");
     private static final byte[] FSC_PAGE_PAR = DocWriter.getISOBytes("\\page\\par ");
     private static final byte[] FSC_NEWPAGE = DocWriter.getISOBytes("$newpage$");
-    private static final byte[] FSC_BACKSLASH = DocWriter.getISOBytes("\\");
-    private static final byte[] FSC_HEX_PREFIX = DocWriter.getISOBytes("\\'");
-    private static final byte[] FSC_UNI_PREFIX = DocWriter.getISOBytes("\\u");
+
+    /**
+     * The maximum number of elements rendered in parallel before the adding thread waits
+     */
+    private static final int MAX_PENDING_ELEMENTS = 64;
+
+    /**
+     * Per thread buffer the escaped text is collected in before it is written with one call
+     */
+    private static final ThreadLocal<byte[]> SCRATCH_BUFFER = ThreadLocal.withInitial(() -> new byte[1024]);
 
     /**
      * The default constructor for a RtfDocument
@@ -140,11 +182,52 @@ public class RtfDocument extends RtfElement {
      * @param out The <code>OutputStream</code> to write the RTF document to.
      */
     public void writeDocument(OutputStream out) throws IOException {
+        writeDocument(out, null);
+    }
+
+    /**
+     * Writes the document. The document body is written directly to the channel, if
+     * one is given, instead of through the <code>OutputStream</code>. The data cache is
+     * closed afterwards, also if writing fails.
+     *
+     * @param out     The <code>OutputStream</code> to write the RTF document to.
+     * @param channel The channel that <code>out</code> writes to, or null.
+     * @return The number of bytes written to the channel instead of <code>out</code>.
+     */
+    public long writeDocument(OutputStream out, WritableByteChannel channel) throws IOException {
+        try {
+            writePendingElements(0);
+            if (!this.headerWritten) {
+                writeDocumentStart(out);
+            }
+            long written = 0;
+            if (channel != null && !this.streaming) {
+                out.flush();
+                written = this.data.writeTo(channel);
+            } else {
+                this.data.writeTo(out);
+            }
+            out.write(CLOSE_GROUP);
+            return written;
+        } finally {
+            this.data.close();
+        }
+    }
+
+    /**
+     * Writes the document start and the document header.
+     *
+     * @param out The <code>OutputStream</code> to write the RTF document to.
+     */
+    private void writeDocumentStart(OutputStream out) throws IOException {
         out.write(OPEN_GROUP);
         out.write(RTF_DOCUMENT);
-        this.documentHeader.writeContent(out);
-        this.data.writeTo(out);
-        out.write(CLOSE_GROUP);
+        if (this.streaming) {
+            this.documentHeader.writeStreamingContent(out);
+        } else {
+            this.documentHeader.writeContent(out);
+        }
+        this.headerWritten = true;
     }
 
     /**
@@ -153,8 +236,29 @@ public class RtfDocument extends RtfElement {
      * is used.
      */
     public void open() {
+        open(null);
+    }
+
+    /**
+     * Opens the RtfDocument and initializes the data cache. If the data cache is
+     * set to CACHE_DISK, but the cache cannot be initialized then the memory cache
+     * is used. If the data cache is set to CACHE_STREAM, then the document is written
+     * directly to the given target, or to the memory cache if there is no target.
+     *
+     * @param target The <code>OutputStream</code> the RTF document will be written to.
+     */
+    public void open(OutputStream target) {
+        this.streaming = false;
         try {
             switch (this.documentSettings.getDataCacheStyle()) {
+            case RtfDataCache.CACHE_STREAM:
+                if (target != null) {
+                    this.data = new RtfStreamCache(target);
+                    this.streaming = true;
+                } else {
+                    this.data = new RtfMemoryCache();
+                }
+                break;
             case RtfDataCache.CACHE_MEMORY_EFFICIENT:
                 this.data = new RtfEfficientMemoryCache();
                 break;
@@ -162,7 +266,10 @@ public class RtfDocument extends RtfElement {
                 this.data = new RtfMemoryCache();
                 break;
             case RtfDataCache.CACHE_DISK:
-                this.data = new RtfDiskCache();
+                this.data = new RtfDiskCache(this.documentSettings.getDiskCacheDirectory(), this.documentSettings.getDiskCacheBufferSize());
+                break;
+            case RtfDataCache.CACHE_HYBRID:
+                this.data = new RtfHybridCache(this.documentSettings.getHybridCacheThreshold(), this.documentSettings.getDiskCacheDirectory(), this.documentSettings.getDiskCacheBufferSize());
                 break;
             default:
                 throw new RuntimeException("unknown");
@@ -181,12 +288,39 @@ public class RtfDocument extends RtfElement {
     public void add(RtfBasicElement element) {
         try {
             if (element instanceof RtfInfoElement) {
+                if (this.headerWritten) {
+                    getDocumentSettings().getLogger().warn("Document information added after the document header has been written is ignored.");
+                }
                 this.documentHeader.addInfoElement((RtfInfoElement) element);
             } else {
                 if (element instanceof RtfImage) {
                     ((RtfImage) element).setTopLevelElement(true);
                 }
-                element.writeContent(this.data.getOutputStream());
+                if (element instanceof RtfChapter) {
+                    ((RtfChapter) element).setPageBreakBefore(this.lastElementWritten != null && !(this.lastElementWritten instanceof RtfChapter));
+                }
+                if (this.streaming && !this.headerWritten) {
+                    writeDocumentStart(this.data.getOutputStream());
+                }
+                Executor renderExecutor = this.documentSettings.getRenderExecutor();
+                if (renderExecutor != null) {
+                    FutureTask<RtfByteArrayBuffer> task = new FutureTask<>(() -> {
+                        RtfByteArrayBuffer bab = new RtfByteArrayBuffer();
+                        element.writeContent(bab);
+                        return bab;
+                    });
+                    try {
+                        renderExecutor.execute(task);
+                    } catch (RejectedExecutionException ree) {
+                        // an executor that is shut down or full renders nothing, so render on this thread
+                        task.run();
+                    }
+                    this.pendingElements.add(task);
+                    writePendingElements(MAX_PENDING_ELEMENTS);
+                } else {
+                    writePendingElements(0);
+                    element.writeContent(this.data.getOutputStream());
+                }
                 this.lastElementWritten = element;
             }
         } catch (IOException ioe) {
@@ -194,6 +328,40 @@ public class RtfDocument extends RtfElement {
         }
     }
 
+    /**
+     * Writes the rendered elements to the data cache in the order they were added.
+     * Elements that are still being rendered are waited for until at most
+     * <code>maxPending</code> elements are left.
+     *
+     * @param maxPending The number of elements that may be left pending
+     */
+    private void writePendingElements(int maxPending) throws IOException {
+        FutureTask<RtfByteArrayBuffer> task;
+        while ((task = this.pendingElements.peek()) != null && (task.isDone() || this.pendingElements.size() > maxPending)) {
+            this.pendingElements.remove();
+            RtfByteArrayBuffer bab;
+            try {
+                bab = task.get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new ExceptionConverter(ie);
+            } catch (ExecutionException ee) {
+                Throwable cause = ee.getCause();
+                if (cause instanceof IOException) {
+                    log(cause);
+                    continue;
+                }
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                if (cause instanceof Error)
+                    throw (Error) cause;
+                throw new ExceptionConverter(ee);
+            }
+            bab.writeTo(this.data.getOutputStream());
+            bab.close();
+        }
+    }
+
     /**
      * Gets the RtfMapper object of this RtfDocument
      *
@@ -210,11 +378,29 @@ public class RtfDocument extends RtfElement {
      * @return A random int
      */
     public int getRandomInt() {
-        while (true) {
-            int newInt = (int) (Math.random() * Integer.MAX_VALUE);
-            if (this.previousRandomInts.add(newInt))
-                return newInt;
-        }
+        // a bijective scramble of the counter never repeats a value within 2^31 calls
+        int x = (randomCount.getAndIncrement() + randomSeed) & Integer.MAX_VALUE;
+        x ^= x >>> 16;
+        x = (x * 0x45d9f3b) & Integer.MAX_VALUE;
+        x ^= x >>> 16;
+        x = (x * 0x45d9f3b) & Integer.MAX_VALUE;
+        x ^= x >>> 16;
+        return x;
+    }
+
+    /**
+     * Sets the seed of the unique random numbers. Documents built the same way with
+     * the same seed produce identical output. The seed can only be set before the
+     * first random number has been generated, since later numbers could otherwise
+     * repeat earlier ones.
+     *
+     * @param seed The seed to use
+     * @throws IllegalStateException If a random number has already been generated
+     */
+    public void setRandomSeed(int seed) {
+        if (this.randomCount.get() != 0)
+            throw new IllegalStateException("The random seed must be set before the first element is added.");
+        this.randomSeed = seed;
     }
 
     /**
@@ -226,6 +412,24 @@ public class RtfDocument extends RtfElement {
         return this.documentHeader;
     }
 
+    /**
+     * Gets the RtfImageStore of this RtfDocument
+     *
+     * @return The RtfImageStore of this RtfDocument
+     */
+    public RtfImageStore getImageStore() {
+        return this.imageStore;
+    }
+
+    /**
+     * Gets the RtfBorderStore of this RtfDocument
+     *
+     * @return The RtfBorderStore of this RtfDocument
+     */
+    public RtfBorderStore getBorderStore() {
+        return this.borderStore;
+    }
+
     /**
      * Writes the given string to the given {@link OutputStream} encoding the string characters.
      *
@@ -249,44 +453,78 @@ public class RtfDocument extends RtfElement {
             return;
         }
 
+        byte[] buf = SCRATCH_BUFFER.get();
+        // leaves room for the longest escape sequence
+        int limit = buf.length - FSC_PAGE_PAR.length;
+        int n = 0;
         for (int k = 0; k < len; k++) {
+            if (n > limit) {
+                out.write(buf, 0, n);
+                n = 0;
+            }
             char c = str.charAt(k);
-            if (c < 0x20) {
+            if (c >= 0x20 && c <= 'z' && c != '\\' && c != '$') {
+                // plain character, this is by far the most common case
+                buf[n++] = (byte) c;
+            } else if (c < 0x20) {
                 // allow return and tab only
                 if (c == '\n') {
-                    out.write(softLineBreaks ? FSC_LINE : FSC_PAR);
+                    n = append(buf, n, softLineBreaks ? FSC_LINE : FSC_PAR);
                 } else if (c == '\t') {
-                    out.write(FSC_TAB);
+                    n = append(buf, n, FSC_TAB);
                 } else {
-                    out.write('?');
+                    buf[n++] = '?';
                 }
             } else if ((c == '\\') || (c == '{') || (c == '}')) {
                 // escape
-                out.write(FSC_BACKSLASH);
-                out.write(c);
+                buf[n++] = '\\';
+                buf[n++] = (byte) c;
             } else if (c == '$' && len - k >= FSC_NEWPAGE.length && subMatch(str, k, FSC_NEWPAGE)) {
-                out.write(FSC_PAGE_PAR);
+                n = append(buf, n, FSC_PAGE_PAR);
                 k += FSC_NEWPAGE.length - 1;
-            } else {
-                if ((c > 0xff) || ((c > 'z') && alwaysUseUniCode)) {
-                    if (useHex && c <= 0xff) {
-                        // encode as 2 char hex string
-                        out.write(FSC_HEX_PREFIX);
-                        out.write(RtfImage.byte2charLUT, c * 2, 2);
-                    } else {
-                        // encode as decimal, signed short value
-                        out.write(FSC_UNI_PREFIX);
-                        String s = Short.toString((short) c);
-                        for (int x = 0; x < s.length(); x++) {
-                            out.write(s.charAt(x));
-                        }
-                        out.write('?');
-                    }
+            } else if ((c > 0xff) || ((c > 'z') && alwaysUseUniCode)) {
+                if (useHex && c <= 0xff) {
+                    // encode as 2 char hex string
+                    buf[n++] = '\\';
+                    buf[n++] = '\'';
+                    buf[n++] = RtfImage.byte2charLUT[c * 2];
+                    buf[n++] = RtfImage.byte2charLUT[c * 2 + 1];
                 } else {
-                    out.write(c);
+                    // encode as decimal, signed short value
+                    buf[n++] = '\\';
+                    buf[n++] = 'u';
+                    int value = (short) c;
+                    if (value < 0) {
+                        buf[n++] = '-';
+                        value = -value;
+                    }
+                    int digits = 1;
+                    for (int v = value; v >= 10; v /= 10) {
+                        digits++;
+                    }
+                    n += digits;
+                    for (int p = n; p > n - digits; value /= 10) {
+                        buf[--p] = (byte) ('0' + value % 10);
+                    }
+                    buf[n++] = '?';
                 }
+            } else {
+                buf[n++] = (byte) c;
             }
         }
+        if (n > 0) {
+            out.write(buf, 0, n);
+        }
+    }
+
+    /**
+     * Copies the bytes of <tt>b</tt> into <tt>buf</tt> at position <tt>n</tt>.
+     *
+     * @return the position after the copied bytes
+     */
+    private static int append(byte[] buf, int n, byte[] b) {
+        System.arraycopy(b, 0, buf, n, b.length);
+        return n + b.length;
     }
 
     /**
@@ -183,6 +183,24 @@ public class RtfDocumentHeader extends RtfElement {
         writeSectionDefinition(result);
     }
 
+    /**
+     * Writes the contents of the document header area before any of the document body
+     * has been written. The default paragraph styles are registered first, and afterwards
+     * the font, color, list and style tables are locked, since entries added later could not be
+     * declared in the already written header anymore.
+     *
+     * @param result The <code>OutputStream</code> to write to.
+     * @throws IOException On i/o errors.
+     */
+    public void writeStreamingContent(OutputStream result) throws IOException {
+        this.stylesheetList.getRtfParagraphStyle(RtfParagraphStyle.STYLE_NORMAL.getStyleName());
+        writeContent(result);
+        this.fontList.lock();
+        this.colorList.lock();
+        this.listTable.lock();
+        this.stylesheetList.lock();
+    }
+
     /**
      * Writes the section definition data
      *
@@ -226,6 +244,18 @@ public class RtfDocumentHeader extends RtfElement {
         return this.colorList.getColorNumber(color);
     }
 
+    /**
+     * Gets the shared RtfColor with the given red, green and blue values
+     *
+     * @param red   The red value
+     * @param green The green value
+     * @param blue  The blue value
+     * @return The RtfColor from the color list
+     */
+    public RtfColor getColor(int red, int green, int blue) {
+        return this.colorList.getColor(red, green, blue);
+    }
+
     /**
      * Gets the number of the specified RtfList
      *
@@ -333,6 +363,24 @@ public class RtfDocumentHeader extends RtfElement {
         }
     }
 
+    /**
+     * Gets the <code>RtfFontList</code> object.
+     *
+     * @return the font list object.
+     */
+    public RtfFontList getFontList() {
+        return this.fontList;
+    }
+
+    /**
+     * Gets the <code>RtfStylesheetList</code> object.
+     *
+     * @return the stylesheet list object.
+     */
+    public RtfStylesheetList getStylesheetList() {
+        return this.stylesheetList;
+    }
+
     /**
      * Get the <code>RtfListTable</code> object.
      *
@@ -49,11 +49,20 @@
 package com.lowagie.text.rtf.document;
 
 import com.lowagie.text.DocWriter;
+import com.lowagie.text.Font;
 import com.lowagie.text.rtf.document.output.RtfDataCache;
+import com.lowagie.text.rtf.document.output.RtfDiskCache;
+import com.lowagie.text.rtf.document.output.RtfHybridCache;
 import com.lowagie.text.rtf.document.output.RtfLogger;
 import com.lowagie.text.rtf.document.output.RtfLoggerSimple;
+import com.lowagie.text.rtf.style.RtfColor;
+import com.lowagie.text.rtf.style.RtfFont;
 import com.lowagie.text.rtf.style.RtfParagraphStyle;
 
+import java.awt.Color;
+import java.io.File;
+import java.util.concurrent.Executor;
+
 /**
  * The RtfDocumentSettings contains output specific settings. These settings modify
  * how the actual document is then generated and some settings may mean that some
@@ -90,6 +99,22 @@ public class RtfDocumentSettings {
      * How to cache the document during generation. Defaults to RtfDataCache.CACHE_MEMORY;
      */
     private int dataCacheStyle = RtfDataCache.CACHE_MEMORY;
+    /**
+     * The Executor that renders the added elements. Defaults to null, rendering them while they are added.
+     */
+    private Executor renderExecutor = null;
+    /**
+     * The directory for the temporary file of the disk cache. Defaults to null, the default temporary directory.
+     */
+    private File diskCacheDirectory = null;
+    /**
+     * The write buffer size of the disk cache.
+     */
+    private int diskCacheBufferSize = RtfDiskCache.DEFAULT_BUFFER_SIZE;
+    /**
+     * The size up to which the hybrid cache keeps the document in memory.
+     */
+    private long hybridCacheThreshold = RtfHybridCache.DEFAULT_MEMORY_THRESHOLD;
     /**
      * Whether to write image scaling information. This is required for Word 2000, 97 and Word for Mac
      */
@@ -126,6 +151,10 @@ public class RtfDocumentSettings {
      * @since 2.1.1
      */
     private boolean imageWrittenAsBinary = true;
+    /**
+     * Images loaded from an URL are read while they are written instead of when they are added.
+     */
+    private boolean imageStreamedFromSource = false;
 
     /**
      * Constructs a new RtfDocumentSettings object.
@@ -222,9 +251,45 @@ public class RtfDocumentSettings {
         this.document.getDocumentHeader().registerParagraphStyle(rtfParagraphStyle);
     }
 
+    /**
+     * Registers the Font for further use in the document. This is only required for the
+     * RtfDataCache.CACHE_STREAM cache style, where all fonts must be known before
+     * the first element is added.
+     *
+     * @param font The Font to register.
+     */
+    public void registerFont(Font font) {
+        // the RtfFont constructor registers the font and its color
+        new RtfFont(this.document, font);
+    }
+
+    /**
+     * Registers the Color for further use in the document. This is only required for the
+     * RtfDataCache.CACHE_STREAM cache style, where all colors must be known before
+     * the first element is added.
+     *
+     * @param color The Color to register.
+     */
+    public void registerColor(Color color) {
+        // the RtfColor constructor registers the color
+        new RtfColor(this.document, color);
+    }
+
+    /**
+     * Sets the seed for the random ids of lists, shapes and annotations. By default every
+     * document uses a different seed; setting a fixed seed makes the output reproducible.
+     * The seed must be set before the first list, shape or annotation is added.
+     *
+     * @param seed The seed to use.
+     * @throws IllegalStateException If an id has already been generated
+     */
+    public void setRandomSeed(int seed) {
+        this.document.setRandomSeed(seed);
+    }
+
     /**
      * Sets the data cache style. This controls where the document is cached during
-     * generation. Two cache styles are supported:
+     * generation. The following cache styles are supported:
      * <ul>
      *   <li>RtfDataCache.CACHE_MEMORY: The document is cached in memory. This is fast,
      *     but places a limit on how big the document can get before causing
@@ -232,6 +297,15 @@ public class RtfDocumentSettings {
      *   <li>RtfDataCache.CACHE_DISK: The document is cached on disk. This is slower
      *     than the CACHE_MEMORY setting, but the document size is now only constrained
      *     by the amount of free disk space.</li>
+     *   <li>RtfDataCache.CACHE_HYBRID: The document is cached in memory until it grows
+     *     beyond the hybrid cache threshold (see {@link #setHybridCacheThreshold}) or the
+     *     global memory budget of {@link RtfHybridCache}, and is then moved to disk.</li>
+     *   <li>RtfDataCache.CACHE_STREAM: The document is not cached, the document body is
+     *     written to the output while the elements are added. Since the document header
+     *     is written before the first element, all fonts, colors, lists and paragraph
+     *     styles have to be used or registered before that (see {@link #registerFont},
+     *     {@link #registerColor} and {@link #registerParagraphStyle}). Fonts and colors
+     *     used afterwards are replaced with the default font and black.</li>
      * </ul>
      *
      * @param dataCacheStyle The data cache style to set. Valid constants can be found
@@ -246,6 +320,12 @@ public class RtfDocumentSettings {
         case RtfDataCache.CACHE_DISK:
             this.dataCacheStyle = RtfDataCache.CACHE_DISK;
             break;
+        case RtfDataCache.CACHE_STREAM:
+            this.dataCacheStyle = RtfDataCache.CACHE_STREAM;
+            break;
+        case RtfDataCache.CACHE_HYBRID:
+            this.dataCacheStyle = RtfDataCache.CACHE_HYBRID;
+            break;
         case RtfDataCache.CACHE_MEMORY:
         default:
             this.dataCacheStyle = RtfDataCache.CACHE_MEMORY;
@@ -262,6 +342,85 @@ public class RtfDocumentSettings {
         return this.dataCacheStyle;
     }
 
+    /**
+     * Sets the directory in which the RtfDataCache.CACHE_DISK cache style creates its temporary file.
+     *
+     * @param diskCacheDirectory The directory to use, or null for the default temporary directory.
+     */
+    public void setDiskCacheDirectory(File diskCacheDirectory) {
+        this.diskCacheDirectory = diskCacheDirectory;
+    }
+
+    /**
+     * Gets the directory in which the disk cache creates its temporary file.
+     *
+     * @return The directory, or null for the default temporary directory.
+     */
+    public File getDiskCacheDirectory() {
+        return this.diskCacheDirectory;
+    }
+
+    /**
+     * Sets the size of the write buffer of the RtfDataCache.CACHE_DISK cache style.
+     *
+     * @param diskCacheBufferSize The buffer size in bytes.
+     */
+    public void setDiskCacheBufferSize(int diskCacheBufferSize) {
+        this.diskCacheBufferSize = diskCacheBufferSize;
+    }
+
+    /**
+     * Gets the size of the write buffer of the disk cache.
+     *
+     * @return The buffer size in bytes.
+     */
+    public int getDiskCacheBufferSize() {
+        return this.diskCacheBufferSize;
+    }
+
+    /**
+     * Sets the size up to which the RtfDataCache.CACHE_HYBRID cache style keeps the
+     * document in memory before moving it to disk.
+     *
+     * @param hybridCacheThreshold The threshold in bytes.
+     */
+    public void setHybridCacheThreshold(long hybridCacheThreshold) {
+        this.hybridCacheThreshold = hybridCacheThreshold;
+    }
+
+    /**
+     * Gets the size up to which the hybrid cache keeps the document in memory.
+     *
+     * @return The threshold in bytes.
+     */
+    public long getHybridCacheThreshold() {
+        return this.hybridCacheThreshold;
+    }
+
+    /**
+     * Sets the Executor that renders the added elements in parallel. The elements are
+     * still converted to RTF elements while they are added, so fonts, colors and lists
+     * are numbered in the order of the elements. Only writing the RTF code of the elements
+     * is done by the Executor, and the results are written to the document in the order
+     * the elements were added. Set to null (the default) to write the elements while
+     * they are added.
+     *
+     * @param renderExecutor The Executor to use, for example a fixed thread pool or
+     *                       a virtual thread per task executor.
+     */
+    public void setRenderExecutor(Executor renderExecutor) {
+        this.renderExecutor = renderExecutor;
+    }
+
+    /**
+     * Gets the Executor that renders the added elements.
+     *
+     * @return The Executor, or null if the elements are written while they are added.
+     */
+    public Executor getRenderExecutor() {
+        return this.renderExecutor;
+    }
+
     /**
      * Gets the current setting on image PDF conformance.
      *
@@ -565,6 +724,27 @@ public class RtfDocumentSettings {
         return this.imageWrittenAsBinary;
     }
 
+    /**
+     * Set whether images that were loaded from an URL or file (see {@link com.lowagie.text.Image#getInstance(java.net.URL)})
+     * are read from their source while they are written, instead of being read into memory
+     * when they are added. The source must not change until the document has been written.
+     * BMP images are always read into memory, since they have to be converted.
+     *
+     * @param imageStreamedFromSource <code>True</code> to stream the image data from the source.
+     */
+    public void setImageStreamedFromSource(boolean imageStreamedFromSource) {
+        this.imageStreamedFromSource = imageStreamedFromSource;
+    }
+
+    /**
+     * Gets whether images loaded from an URL or file are streamed from their source. Defaults to <code>false</code>.
+     *
+     * @return <code>True</code> if the image data is read while writing.
+     */
+    public boolean isImageStreamedFromSource() {
+        return this.imageStreamedFromSource;
+    }
+
     private RtfLogger logger = new RtfLoggerSimple();
 
     public RtfLogger getLogger() {
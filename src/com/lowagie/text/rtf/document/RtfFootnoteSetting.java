@@ -125,7 +125,7 @@ public class RtfFootnoteSetting extends RtfElement implements RtfExtendedElement
     public void writeDefinition(OutputStream result) throws IOException {
         result.write(FOOTNOTE_BOTTOM);
         result.write(FOOTNOTE_START);
-        result.write(intToByteArray(footnoteStart));
+        writeInt(result, footnoteStart);
         result.write(FOOTNOTE_CONTINUOUS);
         result.write(FOOTNOTE_ARABIC);
         result.write(OPEN_GROUP);
@@ -171,17 +171,17 @@ public class RtfPageSetting extends RtfElement implements RtfExtendedElement {
     @Override
     public void writeDefinition(OutputStream result) throws IOException {
         result.write(PAGE_WIDTH);
-        result.write(intToByteArray(pageWidth));
+        writeInt(result, pageWidth);
         result.write(PAGE_HEIGHT);
-        result.write(intToByteArray(pageHeight));
+        writeInt(result, pageHeight);
         result.write(MARGIN_LEFT);
-        result.write(intToByteArray(marginLeft));
+        writeInt(result, marginLeft);
         result.write(MARGIN_RIGHT);
-        result.write(intToByteArray(marginRight));
+        writeInt(result, marginRight);
         result.write(MARGIN_TOP);
-        result.write(intToByteArray(marginTop));
+        writeInt(result, marginTop);
         result.write(MARGIN_BOTTOM);
-        result.write(intToByteArray(marginBottom));
+        writeInt(result, marginBottom);
         this.document.outputDebugLinebreak(result);
     }
 
@@ -193,18 +193,18 @@ public class RtfPageSetting extends RtfElement implements RtfExtendedElement {
             result.write(LANDSCAPE);
         }
         result.write(SECTION_PAGE_WIDTH);
-        result.write(intToByteArray(pageWidth));
+        writeInt(result, pageWidth);
         result.write(SECTION_PAGE_HEIGHT);
-        result.write(intToByteArray(pageHeight));
+        writeInt(result, pageHeight);
         this.document.outputDebugLinebreak(result);
         result.write(SECTION_MARGIN_LEFT);
-        result.write(intToByteArray(marginLeft));
+        writeInt(result, marginLeft);
         result.write(SECTION_MARGIN_RIGHT);
-        result.write(intToByteArray(marginRight));
+        writeInt(result, marginRight);
         result.write(SECTION_MARGIN_TOP);
-        result.write(intToByteArray(marginTop));
+        writeInt(result, marginTop);
         result.write(SECTION_MARGIN_BOTTOM);
-        result.write(intToByteArray(marginBottom));
+        writeInt(result, marginBottom);
     }
 
     /**
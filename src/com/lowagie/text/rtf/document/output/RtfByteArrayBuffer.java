@@ -50,6 +50,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -62,7 +65,15 @@ import java.util.List;
  */
 public final class RtfByteArrayBuffer extends OutputStream {
 
+    private static final byte[] MIN_INT_BYTES = {'-', '2', '1', '4', '7', '4', '8', '3', '6', '4', '8'};
+
     private final List<byte[]> arrays = new ArrayList<>();
+    /**
+     * The chunks in arrays that can be given back to the pool.
+     */
+    private final List<byte[]> pooled = new ArrayList<>();
+    private final RtfChunkPool pool;
+    private final int initialSize;
     private byte[] buffer;
     private int pos = 0;
     private int size = 0;
@@ -80,14 +91,28 @@ public final class RtfByteArrayBuffer extends OutputStream {
      * @param bufferSize desired initial size in bytes
      */
     public RtfByteArrayBuffer(int bufferSize) {
+        this(bufferSize, RtfChunkPool.getDefault());
+    }
+
+    /**
+     * Creates a new buffer with the given initial size that takes its chunks from the given pool.
+     *
+     * @param bufferSize desired initial size in bytes
+     * @param pool       the pool to take the chunks from and to give them back to
+     */
+    public RtfByteArrayBuffer(int bufferSize, RtfChunkPool pool) {
         if ((bufferSize <= 0) || (bufferSize > 1 << 30))
             throw new IllegalArgumentException("bufferSize " + bufferSize);
+        if (pool == null)
+            throw new NullPointerException();
 
         int n = 1 << 5;
         while (n < bufferSize) {
             n <<= 1;
         }
-        buffer = new byte[n];
+        this.pool = pool;
+        this.initialSize = n;
+        buffer = pool.getChunk(n);
     }
 
     @Override
@@ -96,14 +121,32 @@ public final class RtfByteArrayBuffer extends OutputStream {
     }
 
     /**
-     * Resets this buffer.
+     * Resets this buffer. The chunks that have not been handed out by
+     * {@link #toByteArrayArray()} are given back to the pool.
      */
     public void reset() {
+        for (byte[] chunk : pooled) {
+            pool.returnChunk(chunk);
+        }
+        pooled.clear();
         arrays.clear();
         pos = 0;
         size = 0;
     }
 
+    /**
+     * Resets this buffer and gives all its chunks, including the current one, back to the pool.
+     * The buffer can still be written to afterwards, a new chunk is taken on the next write.
+     */
+    @Override
+    public void close() {
+        reset();
+        if (buffer != null) {
+            pool.returnChunk(buffer);
+            buffer = null;
+        }
+    }
+
     /**
      * Returns the number of bytes that have been written to this buffer so far.
      *
@@ -113,6 +156,12 @@ public final class RtfByteArrayBuffer extends OutputStream {
         return size;
     }
 
+    private void ensureBuffer() {
+        if (buffer == null) {
+            buffer = pool.getChunk(initialSize);
+        }
+    }
+
     private void flushBuffer() {
         flushBuffer(1);
     }
@@ -127,6 +176,7 @@ public final class RtfByteArrayBuffer extends OutputStream {
         if (pos == buffer.length) {
             // add old buffer, alloc new (possibly larger) buffer
             arrays.add(buffer);
+            pooled.add(buffer);
             int newSize = buffer.length;
             buffer = null;
             int max = Math.max(1, size >> 24) << 16;
@@ -135,7 +185,7 @@ public final class RtfByteArrayBuffer extends OutputStream {
                 if (newSize >= reqSize)
                     break;
             }
-            buffer = new byte[newSize];
+            buffer = pool.getChunk(newSize);
         } else {
             // copy buffer contents to newly allocated buffer
             byte[] c = new byte[pos];
@@ -152,6 +202,7 @@ public final class RtfByteArrayBuffer extends OutputStream {
      */
     @Override
     public void write(int b) {
+        ensureBuffer();
         buffer[pos] = (byte) b;
         size++;
         if (++pos == buffer.length) {
@@ -159,6 +210,58 @@ public final class RtfByteArrayBuffer extends OutputStream {
         }
     }
 
+    /**
+     * Writes the decimal representation of the given integer to the internal buffer
+     * without creating an intermediate String or byte array.
+     *
+     * @param i
+     */
+    public void writeInt(int i) {
+        if (i == Integer.MIN_VALUE) {
+            writeLoop(MIN_INT_BYTES, 0, MIN_INT_BYTES.length);
+            return;
+        }
+        int n = i < 0 ? -i : i;
+        int len = i < 0 ? 2 : 1;
+        for (int m = n; m >= 10; m /= 10) {
+            len++;
+        }
+        ensureBuffer();
+        if (buffer.length - pos < len) {
+            // the number does not fit into the current buffer, write it digit by digit
+            writeIntSlow(i < 0, n, len);
+            return;
+        }
+        int p = pos + len;
+        do {
+            buffer[--p] = (byte) ('0' + n % 10);
+            n /= 10;
+        } while (n != 0);
+        if (i < 0) {
+            buffer[--p] = '-';
+        }
+        pos += len;
+        size += len;
+        if (pos == buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void writeIntSlow(boolean negative, int n, int len) {
+        if (negative) {
+            write('-');
+            len--;
+        }
+        int div = 1;
+        while (--len > 0) {
+            div *= 10;
+        }
+        while (div > 0) {
+            write('0' + n / div % 10);
+            div /= 10;
+        }
+    }
+
     /**
      * Copies the given array to the internal buffer.
      *
@@ -169,6 +272,7 @@ public final class RtfByteArrayBuffer extends OutputStream {
         if (src == null)
             throw new NullPointerException();
 
+        ensureBuffer();
         if (src.length < buffer.length - pos) {
             System.arraycopy(src, 0, buffer, pos, src.length);
             pos += src.length;
@@ -196,6 +300,7 @@ public final class RtfByteArrayBuffer extends OutputStream {
     }
 
     private void writeLoop(byte[] src, int off, int len) {
+        ensureBuffer();
         while (len > 0) {
             int room = buffer.length - pos;
             int n = Math.min(len, room);
@@ -221,6 +326,7 @@ public final class RtfByteArrayBuffer extends OutputStream {
         if (in == null)
             throw new NullPointerException();
 
+        ensureBuffer();
         long sizeStart = size;
         while (true) {
             int n = in.read(buffer, pos, buffer.length - pos);
@@ -273,11 +379,13 @@ public final class RtfByteArrayBuffer extends OutputStream {
 
     /**
      * Returns the internal list of byte array buffers without copying the buffer contents.
+     * The returned buffers are not given back to the pool.
      *
      * @return written bytes
      */
     public byte[][] toByteArrayArray() {
         flushBuffer();
+        pooled.clear();
         return arrays.toArray(new byte[arrays.size()][]);
     }
 
@@ -316,4 +424,47 @@ public final class RtfByteArrayBuffer extends OutputStream {
             out.write(buffer, 0, pos);
         }
     }
+
+    /**
+     * Writes all data that has been written to this buffer to the given channel.
+     * A GatheringByteChannel receives all chunks with one vectored write where possible.
+     *
+     * @param channel
+     * @return number of bytes written
+     * @throws IOException
+     */
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        if (channel == null)
+            throw new NullPointerException();
+
+        int count = arrays.size() + (pos > 0 ? 1 : 0);
+        ByteBuffer[] buffers = new ByteBuffer[count];
+        for (int i = 0; i < arrays.size(); i++) {
+            buffers[i] = ByteBuffer.wrap(arrays.get(i));
+        }
+        if (pos > 0) {
+            buffers[count - 1] = ByteBuffer.wrap(buffer, 0, pos);
+        }
+        long written = 0;
+        for (ByteBuffer bb : buffers) {
+            written += bb.remaining();
+        }
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gathering = (GatheringByteChannel) channel;
+            int first = 0;
+            while (first < count) {
+                gathering.write(buffers, first, count - first);
+                while (first < count && !buffers[first].hasRemaining()) {
+                    first++;
+                }
+            }
+        } else {
+            for (ByteBuffer bb : buffers) {
+                while (bb.hasRemaining()) {
+                    channel.write(bb);
+                }
+            }
+        }
+        return written;
+    }
 }
@@ -0,0 +1,146 @@
+package com.lowagie.text.rtf.document.output;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The RtfChunkPool recycles the byte array chunks of {@link RtfByteArrayBuffer}s.
+ * Chunks are kept in power of two size classes, and at most a configurable number
+ * of bytes is retained by the pool. The pool is thread-safe and by default shared by
+ * all buffers (see {@link #setDefault(RtfChunkPool)}). Subclasses can override
+ * {@link #getChunk(int)} and {@link #returnChunk(byte[])} to plug in other strategies.
+ */
+public class RtfChunkPool {
+
+    /**
+     * The default number of bytes the default pool retains.
+     */
+    public static final long DEFAULT_MAX_RETAINED = 4 * 1024 * 1024;
+
+    /**
+     * The smallest size class (32 bytes).
+     */
+    private static final int MIN_SHIFT = 5;
+    /**
+     * The largest size class (4 MB).
+     */
+    private static final int MAX_SHIFT = 22;
+
+    /**
+     * The pool used by buffers that are not given a pool.
+     */
+    private static volatile RtfChunkPool defaultPool = new RtfChunkPool(DEFAULT_MAX_RETAINED);
+
+    /**
+     * The free chunks of each size class.
+     */
+    private final Queue<byte[]>[] free;
+    /**
+     * The maximum number of bytes kept in the free chunks.
+     */
+    private final long maxRetained;
+    /**
+     * The number of bytes currently kept in the free chunks.
+     */
+    private final AtomicLong retained = new AtomicLong();
+    /**
+     * The number of chunks that were taken from the pool instead of being allocated.
+     */
+    private final AtomicLong reuseCount = new AtomicLong();
+
+    /**
+     * Constructs a RtfChunkPool.
+     *
+     * @param maxRetained The maximum number of bytes the pool keeps, 0 to not keep any chunks.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RtfChunkPool(long maxRetained) {
+        this.maxRetained = maxRetained;
+        this.free = new Queue[MAX_SHIFT - MIN_SHIFT + 1];
+        for (int i = 0; i < this.free.length; i++) {
+            this.free[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Gets the pool used by buffers that are not given a pool.
+     */
+    public static RtfChunkPool getDefault() {
+        return defaultPool;
+    }
+
+    /**
+     * Sets the pool used by buffers that are not given a pool. Use a pool
+     * with a maximum of 0 retained bytes to disable recycling.
+     *
+     * @param pool The new default pool.
+     */
+    public static void setDefault(RtfChunkPool pool) {
+        if (pool == null)
+            throw new NullPointerException();
+        defaultPool = pool;
+    }
+
+    private static int sizeClass(int size) {
+        if (size <= 0 || (size & (size - 1)) != 0)
+            return -1;
+        int shift = Integer.numberOfTrailingZeros(size);
+        if (shift < MIN_SHIFT || shift > MAX_SHIFT)
+            return -1;
+        return shift - MIN_SHIFT;
+    }
+
+    /**
+     * Gets a chunk of exactly the given size. The content of the chunk is undefined.
+     *
+     * @param size The size of the chunk.
+     * @return A recycled or newly allocated chunk.
+     */
+    public byte[] getChunk(int size) {
+        int sizeClass = sizeClass(size);
+        if (sizeClass >= 0) {
+            byte[] chunk = this.free[sizeClass].poll();
+            if (chunk != null) {
+                this.retained.addAndGet(-chunk.length);
+                this.reuseCount.incrementAndGet();
+                return chunk;
+            }
+        }
+        return new byte[size];
+    }
+
+    /**
+     * Gives a chunk back to the pool. The chunk must not be used by the caller afterwards.
+     * Chunks that do not fit a size class or exceed the retained maximum are dropped.
+     *
+     * @param chunk The chunk to give back.
+     */
+    public void returnChunk(byte[] chunk) {
+        int sizeClass = sizeClass(chunk.length);
+        if (sizeClass < 0)
+            return;
+        while (true) {
+            long current = this.retained.get();
+            if (current + chunk.length > this.maxRetained)
+                return;
+            if (this.retained.compareAndSet(current, current + chunk.length))
+                break;
+        }
+        this.free[sizeClass].offer(chunk);
+    }
+
+    /**
+     * Gets the number of bytes currently kept by the pool.
+     */
+    public long getRetainedBytes() {
+        return this.retained.get();
+    }
+
+    /**
+     * Gets the number of chunks that were recycled instead of being allocated.
+     */
+    public long getReuseCount() {
+        return this.reuseCount.get();
+    }
+}
@@ -48,8 +48,11 @@
  */
 package com.lowagie.text.rtf.document.output;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * The RtfDataCache interface must be implemented by classes wishing to
@@ -61,6 +64,14 @@ import java.io.OutputStream;
  */
 public interface RtfDataCache {
 
+    /**
+     * Constant for caching into memory up to a threshold and to the disk beyond it.
+     */
+    int CACHE_HYBRID = 5;
+    /**
+     * Constant for not caching at all and writing the document body directly to the target stream.
+     */
+    int CACHE_STREAM = 4;
     /**
      * Constant for caching efficiently into memory.
      */
@@ -88,4 +99,39 @@ public interface RtfDataCache {
      * @throws IOException If an error occurs reading/writing.
      */
     void writeTo(OutputStream target) throws IOException;
+
+    /**
+     * Write the content of the cache into the WritableByteChannel.
+     *
+     * @param target The WritableByteChannel to write the content into.
+     * @return The number of bytes written.
+     * @throws IOException If an error occurs reading/writing.
+     */
+    default long writeTo(WritableByteChannel target) throws IOException {
+        long[] count = {0};
+        writeTo(new FilterOutputStream(Channels.newOutputStream(target)) {
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                count[0]++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                count[0] += len;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Releases the resources held by the cache, such as reserved memory or a temporary file.
+     * The content can not be written afterwards. Does nothing if the cache has already been written.
+     *
+     * @throws IOException If an error occurs releasing the resources.
+     */
+    default void close() throws IOException {
+    }
 }
@@ -48,12 +48,24 @@
  */
 package com.lowagie.text.rtf.document.output;
 
-import java.io.*;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * The RtfFileCache is a RtfDataCache that uses a temporary file
  * to store the rtf document data. Not so fast, but doesn't use any
  * memory (just disk space).
+ * The temporary file is deleted when the cache has been written, or at the
+ * latest when the JVM exits.
  *
  * @author Mark Hall (Mark.Hall@mail.room3b.eu)
  * @version $Revision: 3373 $
@@ -61,26 +73,85 @@ import java.io.*;
 public class RtfDiskCache implements RtfDataCache {
 
     /**
-     * The BufferedOutputStream that stores the cache data.
+     * The default size of the write buffer.
      */
-    private final BufferedOutputStream data;
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The FileChannel of the temporary file.
+     */
+    private final FileChannel channel;
     /**
-     * The temporary file to store the data in.
+     * The buffer for data written to the cache.
      */
-    private final File tempFile;
+    private final ByteBuffer buffer;
+    /**
+     * The OutputStream that stores the cache data.
+     */
+    private final OutputStream data = new OutputStream() {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > buffer.remaining()) {
+                flushBuffer();
+                if (len > buffer.capacity()) {
+                    writeFully(ByteBuffer.wrap(b, off, len));
+                    return;
+                }
+            }
+            buffer.put(b, off, len);
+        }
+    };
 
     /**
-     * Constructs a RtfFileCache. Creates the temp file.
+     * Constructs a RtfFileCache. Creates the temp file in the default temporary directory.
      *
      * @throws IOException If the temporary file could not be created.
      */
     public RtfDiskCache() throws IOException {
-        this.tempFile = File.createTempFile("iText", null);
-        this.data = new BufferedOutputStream(new FileOutputStream(tempFile));
+        this(null, DEFAULT_BUFFER_SIZE);
     }
 
     /**
-     * Gets the BufferedOutputStream to write to.
+     * Constructs a RtfFileCache. Creates the temp file.
+     *
+     * @param tempDir    The directory to create the temp file in, or null for the default temporary directory.
+     * @param bufferSize The size of the write buffer.
+     * @throws IOException If the temporary file could not be created.
+     */
+    public RtfDiskCache(File tempDir, int bufferSize) throws IOException {
+        Path tempFile = tempDir == null ? Files.createTempFile("iText", null) : Files.createTempFile(tempDir.toPath(), "iText", null);
+        try {
+            this.channel = FileChannel.open(tempFile, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, 1024));
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+
+    /**
+     * Gets the OutputStream to write to.
      */
     @Override
     public OutputStream getOutputStream() {
@@ -89,17 +160,82 @@ public class RtfDiskCache implements RtfDataCache {
 
     /**
      * Writes the content of the temporary file into the OutputStream.
+     * A FileOutputStream target receives the content with FileChannel.transferTo.
      */
     @Override
     public void writeTo(OutputStream target) throws IOException {
-        this.data.close();
-        try (BufferedInputStream tempIn = new BufferedInputStream(new FileInputStream(this.tempFile))) {
-            byte[] buffer = new byte[8192];
-            int bytesRead;
-            while ((bytesRead = tempIn.read(buffer)) >= 0) {
-                target.write(buffer, 0, bytesRead);
+        try {
+            flushBuffer();
+            long size = channel.position();
+            if (target instanceof FileOutputStream) {
+                transferTo(size, ((FileOutputStream) target).getChannel());
+            } else {
+                byte[] bytes = new byte[buffer.capacity()];
+                ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+                long position = 0;
+                while (position < size) {
+                    heapBuffer.clear();
+                    int read = read(heapBuffer, position);
+                    target.write(bytes, 0, read);
+                    position += read;
+                }
             }
+        } finally {
+            channel.close();
         }
-        this.tempFile.delete();
+    }
+
+    /**
+     * Writes the content of the temporary file into the WritableByteChannel
+     * with FileChannel.transferTo.
+     */
+    @Override
+    public long writeTo(WritableByteChannel target) throws IOException {
+        try {
+            flushBuffer();
+            long size = channel.position();
+            transferTo(size, target);
+            return size;
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Closes the temporary file, which deletes it.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void transferTo(long size, WritableByteChannel target) throws IOException {
+        long position = 0;
+        while (position < size) {
+            long transferred = channel.transferTo(position, size - position, target);
+            if (transferred <= 0)
+                break;
+            position += transferred;
+        }
+        if (position < size) {
+            // transferTo made no progress, e.g. on a non-blocking channel, copy the rest through a buffer
+            ByteBuffer heapBuffer = ByteBuffer.allocate(buffer.capacity());
+            while (position < size) {
+                heapBuffer.clear();
+                heapBuffer.limit((int) Math.min(heapBuffer.capacity(), size - position));
+                position += read(heapBuffer, position);
+                heapBuffer.flip();
+                while (heapBuffer.hasRemaining()) {
+                    target.write(heapBuffer);
+                }
+            }
+        }
+    }
+
+    private int read(ByteBuffer dst, long position) throws IOException {
+        int read = channel.read(dst, position);
+        if (read < 0)
+            throw new EOFException("The temporary file ended after " + position + " bytes");
+        return read;
     }
 }
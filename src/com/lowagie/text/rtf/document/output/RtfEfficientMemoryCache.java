@@ -48,6 +48,7 @@ package com.lowagie.text.rtf.document.output;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * The RtfEfficientMemoryCache is an RtfDataCache that keeps the whole rtf document
@@ -80,10 +81,28 @@ public class RtfEfficientMemoryCache implements RtfDataCache {
     }
 
     /**
-     * Writes the content of the buffer into the OutputStream.
+     * Writes the content of the buffer into the OutputStream and gives the
+     * memory of the buffer back to the chunk pool.
      */
     @Override
     public void writeTo(OutputStream target) throws IOException {
-        bab.writeTo(target);
+        try {
+            bab.writeTo(target);
+        } finally {
+            bab.close();
+        }
+    }
+
+    /**
+     * Writes the content of the buffer into the WritableByteChannel and gives the
+     * memory of the buffer back to the chunk pool.
+     */
+    @Override
+    public long writeTo(WritableByteChannel target) throws IOException {
+        try {
+            return bab.writeTo(target);
+        } finally {
+            bab.close();
+        }
     }
 }
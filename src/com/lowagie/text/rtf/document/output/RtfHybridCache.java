@@ -0,0 +1,246 @@
+package com.lowagie.text.rtf.document.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The RtfHybridCache is a RtfDataCache that keeps the rtf document data in memory
+ * until it grows beyond a threshold, and then moves it to a {@link RtfDiskCache}.
+ * The memory used by all RtfHybridCaches of the process can additionally be limited
+ * with {@link #setGlobalMemoryBudget(long)}: a cache that would exceed the global
+ * budget moves to disk as well. The memory of a cache is given back to the global
+ * budget when the cache has been written or closed.
+ */
+public class RtfHybridCache implements RtfDataCache {
+
+    /**
+     * The default size after which the data is moved to disk.
+     */
+    public static final long DEFAULT_MEMORY_THRESHOLD = 8 * 1024 * 1024;
+
+    /**
+     * The granularity in which memory is reserved from the global budget.
+     */
+    private static final int RESERVE_BLOCK = 64 * 1024;
+
+    /**
+     * The memory that all RtfHybridCaches together may use.
+     */
+    private static volatile long globalMemoryBudget = Long.MAX_VALUE;
+    /**
+     * The memory currently reserved by all RtfHybridCaches.
+     */
+    private static final AtomicLong globalMemoryUsed = new AtomicLong();
+
+    /**
+     * The size after which the data is moved to disk.
+     */
+    private final long memoryThreshold;
+    /**
+     * The directory for the temporary file, or null for the default temporary directory.
+     */
+    private final File tempDir;
+    /**
+     * The write buffer size of the disk cache.
+     */
+    private final int bufferSize;
+    /**
+     * The data while it is kept in memory, null after moving to disk.
+     */
+    private RtfByteArrayBuffer memory = new RtfByteArrayBuffer();
+    /**
+     * The disk cache the data has been moved to.
+     */
+    private RtfDiskCache disk = null;
+    /**
+     * The memory reserved from the global budget.
+     */
+    private long reserved = 0;
+
+    /**
+     * The OutputStream that stores the cache data.
+     */
+    private final OutputStream data = new OutputStream() {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (memory != null && ensureMemory(1)) {
+                memory.write(b);
+            } else {
+                disk.getOutputStream().write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (memory != null && ensureMemory(len)) {
+                memory.write(b, off, len);
+            } else {
+                disk.getOutputStream().write(b, off, len);
+            }
+        }
+    };
+
+    /**
+     * Constructs a RtfHybridCache with the default threshold that uses the default temporary directory.
+     */
+    public RtfHybridCache() {
+        this(DEFAULT_MEMORY_THRESHOLD, null, RtfDiskCache.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a RtfHybridCache.
+     *
+     * @param memoryThreshold The size in bytes after which the data is moved to disk.
+     * @param tempDir         The directory to create the temp file in, or null for the default temporary directory.
+     * @param bufferSize      The size of the write buffer of the disk cache.
+     */
+    public RtfHybridCache(long memoryThreshold, File tempDir, int bufferSize) {
+        this.memoryThreshold = memoryThreshold;
+        this.tempDir = tempDir;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Sets the memory that all RtfHybridCaches of the process may use together.
+     *
+     * @param budget The budget in bytes, Long.MAX_VALUE for no limit.
+     */
+    public static void setGlobalMemoryBudget(long budget) {
+        globalMemoryBudget = budget;
+    }
+
+    /**
+     * Gets the memory that all RtfHybridCaches of the process may use together.
+     */
+    public static long getGlobalMemoryBudget() {
+        return globalMemoryBudget;
+    }
+
+    /**
+     * Gets the memory currently used by all RtfHybridCaches of the process.
+     */
+    public static long getGlobalMemoryUsed() {
+        return globalMemoryUsed.get();
+    }
+
+    /**
+     * Checks that len more bytes can be kept in memory, and moves the data to disk otherwise.
+     *
+     * @return Whether the bytes can be written to memory
+     */
+    private boolean ensureMemory(int len) throws IOException {
+        long size = memory.size() + len;
+        if (size <= reserved)
+            return true;
+        if (size <= memoryThreshold) {
+            // never reserve beyond the threshold, it is checked only when the reservation is used up
+            long block = Math.min(Math.max(size - reserved, RESERVE_BLOCK), memoryThreshold - reserved);
+            if (reserve(block)) {
+                reserved += block;
+                return true;
+            }
+        }
+        moveToDisk();
+        return false;
+    }
+
+    private static boolean reserve(long block) {
+        long budget = globalMemoryBudget;
+        while (true) {
+            long used = globalMemoryUsed.get();
+            if (used + block > budget)
+                return false;
+            if (globalMemoryUsed.compareAndSet(used, used + block))
+                return true;
+        }
+    }
+
+    private void release() {
+        globalMemoryUsed.addAndGet(-reserved);
+        reserved = 0;
+    }
+
+    private void moveToDisk() throws IOException {
+        RtfDiskCache diskCache = new RtfDiskCache(tempDir, bufferSize);
+        try {
+            memory.writeTo(diskCache.getOutputStream());
+        } catch (IOException | RuntimeException e) {
+            diskCache.close();
+            throw e;
+        }
+        disk = diskCache;
+        memory.close();
+        memory = null;
+        release();
+    }
+
+    /**
+     * Returns whether the data has been moved to disk.
+     */
+    public boolean isOnDisk() {
+        return disk != null;
+    }
+
+    /**
+     * Gets the OutputStream to write to.
+     */
+    @Override
+    public OutputStream getOutputStream() {
+        return this.data;
+    }
+
+    /**
+     * Gives the memory back to the global budget and deletes the disk cache, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        if (memory != null) {
+            memory.close();
+            memory = null;
+            release();
+        }
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    /**
+     * Writes the content of the cache into the OutputStream.
+     */
+    @Override
+    public void writeTo(OutputStream target) throws IOException {
+        if (memory != null) {
+            try {
+                memory.writeTo(target);
+            } finally {
+                memory.close();
+                memory = null;
+                release();
+            }
+        } else {
+            disk.writeTo(target);
+        }
+    }
+
+    /**
+     * Writes the content of the cache into the WritableByteChannel.
+     */
+    @Override
+    public long writeTo(WritableByteChannel target) throws IOException {
+        if (memory != null) {
+            try {
+                return memory.writeTo(target);
+            } finally {
+                memory.close();
+                memory = null;
+                release();
+            }
+        } else {
+            return disk.writeTo(target);
+        }
+    }
+}
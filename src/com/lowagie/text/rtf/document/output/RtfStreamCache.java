@@ -0,0 +1,40 @@
+package com.lowagie.text.rtf.document.output;
+
+import java.io.OutputStream;
+
+/**
+ * The RtfStreamCache is an RtfDataCache that does not cache anything: the document
+ * body is written directly to the target stream while the elements are added.
+ * The RtfDocument takes care of writing the document header before the first element.
+ */
+public class RtfStreamCache implements RtfDataCache {
+
+    /**
+     * The stream the document is written to.
+     */
+    private final OutputStream target;
+
+    /**
+     * Constructs a RtfStreamCache.
+     *
+     * @param target The OutputStream the document body is written to.
+     */
+    public RtfStreamCache(OutputStream target) {
+        this.target = target;
+    }
+
+    /**
+     * Gets the target OutputStream.
+     */
+    @Override
+    public OutputStream getOutputStream() {
+        return this.target;
+    }
+
+    /**
+     * Does nothing, since all content has already been written to the target.
+     */
+    @Override
+    public void writeTo(OutputStream target) {
+    }
+}
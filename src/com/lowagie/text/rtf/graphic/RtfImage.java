@@ -62,6 +62,8 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
 
 /**
  * The RtfImage contains one image. Supported image types are jpeg, png, wmf, bmp.
@@ -125,15 +127,35 @@ public class RtfImage extends RtfElement {
      * Constant for converting pixels to twips
      */
     private static final int PIXEL_TWIPS_FACTOR = 15;
+    /**
+     * The size of the WMF placeable header that is not written
+     */
+    private static final int WMF_PLACEABLE_HEADER_SIZE = 22;
+    /**
+     * The number of image bytes in one line of hex encoded data
+     */
+    private static final int HEX_BYTES_PER_LINE = 64;
+    /**
+     * The length of one line of hex encoded data, including the line break
+     */
+    private static final int HEX_LINE_LENGTH = HEX_BYTES_PER_LINE * 2 + 1;
+    /**
+     * The size of the buffer hex encoded data is collected in before it is written
+     */
+    private static final int HEX_BLOCK_SIZE = HEX_LINE_LENGTH * 64;
 
     /**
      * The type of image this is.
      */
     private final int imageType;
     /**
-     * Binary image data.
+     * Binary image data, null if the data is read from the imageSource while writing.
      */
     private final byte[][] imageData;
+    /**
+     * The URL the image data is read from while writing.
+     */
+    private final URL imageSource;
     /**
      * The alignment of this picture
      */
@@ -179,7 +201,15 @@ public class RtfImage extends RtfElement {
         height = image.getHeight();
         plainWidth = image.getPlainWidth();
         plainHeight = image.getPlainHeight();
-        this.imageData = getImageData(image);
+        if (doc != null && doc.getDocumentSettings().isImageStreamedFromSource()
+            && image.getOriginalData() == null && image.getUrl() != null && imageType != Image.ORIGINAL_BMP) {
+            this.imageData = null;
+            this.imageSource = image.getUrl();
+        } else {
+            byte[][] data = getImageData(image);
+            this.imageData = doc == null ? data : doc.getImageStore().getImageData(data);
+            this.imageSource = null;
+        }
     }
 
     /**
@@ -195,7 +225,6 @@ public class RtfImage extends RtfElement {
                 bab.append(MetaDo.wrapBMP(image));
             } else {
                 byte[] iod = image.getOriginalData();
-                final int WMF_PLACEABLE_HEADER_SIZE = 22;
                 if (iod == null) {
                     try (InputStream imageIn = image.getUrl().openStream()) {
                         if (imageType == Image.ORIGINAL_WMF) { // remove the placeable header first
@@ -247,21 +276,119 @@ public class RtfImage extends RtfElement {
      * @throws IOException
      */
     private void writeImageDataHexEncoded(OutputStream bab) throws IOException {
+        byte[] block = new byte[HEX_BLOCK_SIZE];
         int cnt = 0;
         for (byte[] chunk : imageData) {
-            for (byte b : chunk) {
-                bab.write(byte2charLUT, (b & 0xff) * 2, 2);
-                if (++cnt == 64) {
-                    bab.write('\n');
-                    cnt = 0;
-                }
-            }
+            cnt = writeHexEncoded(bab, chunk, chunk.length, cnt, block);
         }
         if (cnt > 0) {
             bab.write('\n');
         }
     }
 
+    /**
+     * Writes len bytes of data as hex encoded text, breaking the lines after 64 bytes.
+     * The text is encoded into the block, which is written whenever it cannot take
+     * another complete line.
+     *
+     * @param cnt   The number of bytes already written in the current line
+     * @param block The buffer to encode into, HEX_BLOCK_SIZE bytes long
+     * @return The number of bytes written in the current line
+     */
+    private static int writeHexEncoded(OutputStream bab, byte[] data, int len, int cnt, byte[] block) throws IOException {
+        byte[] lut = byte2charLUT;
+        int p = 0;
+        int i = 0;
+        while (i < len) {
+            int end = i + Math.min(HEX_BYTES_PER_LINE - cnt, len - i);
+            cnt += end - i;
+            for (; i < end; i++) {
+                int v = (data[i] & 0xff) << 1;
+                block[p++] = lut[v];
+                block[p++] = lut[v + 1];
+            }
+            if (cnt == HEX_BYTES_PER_LINE) {
+                block[p++] = '\n';
+                cnt = 0;
+                if (p > HEX_BLOCK_SIZE - HEX_LINE_LENGTH) {
+                    bab.write(block, 0, p);
+                    p = 0;
+                }
+            }
+        }
+        if (p > 0) {
+            bab.write(block, 0, p);
+        }
+        return cnt;
+    }
+
+    /**
+     * Opens the image source, skipping the WMF placeable header.
+     */
+    private InputStream openImageSource(URLConnection connection) throws IOException {
+        InputStream imageIn = connection.getInputStream();
+        if (imageType == Image.ORIGINAL_WMF) {
+            for (int k = 0; k < WMF_PLACEABLE_HEADER_SIZE; k++) {
+                if (imageIn.read() < 0) {
+                    imageIn.close();
+                    throw new EOFException("while removing wmf placeable header");
+                }
+            }
+        }
+        return imageIn;
+    }
+
+    /**
+     * Writes the image data read from the image source.
+     */
+    private void writeImageSource(OutputStream result, boolean binary) throws IOException {
+        URLConnection connection = imageSource.openConnection();
+        long length = connection.getContentLengthLong();
+        if (length >= 0 && imageType == Image.ORIGINAL_WMF) {
+            length -= WMF_PLACEABLE_HEADER_SIZE;
+        }
+        try (InputStream imageIn = openImageSource(connection)) {
+            byte[] buffer = new byte[8192];
+            if (!binary) {
+                result.write(DELIMITER);
+                result.write('\n');
+                byte[] block = new byte[HEX_BLOCK_SIZE];
+                int cnt = 0;
+                int n;
+                while ((n = imageIn.read(buffer)) > 0) {
+                    cnt = writeHexEncoded(result, buffer, n, cnt, block);
+                }
+                if (cnt > 0) {
+                    result.write('\n');
+                }
+            } else if (length < 0 || length > Integer.MAX_VALUE) {
+                // the size has to be written first, so the data of unknown size is buffered
+                try (RtfByteArrayBuffer bab = new RtfByteArrayBuffer()) {
+                    bab.write(imageIn);
+                    writeBinaryStart(result, bab.size());
+                    bab.writeTo(result);
+                }
+            } else {
+                writeBinaryStart(result, length);
+                long remaining = length;
+                while (remaining > 0) {
+                    int n = imageIn.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (n < 0)
+                        throw new EOFException("image " + imageSource + " is shorter than " + length + " bytes");
+                    result.write(buffer, 0, n);
+                    remaining -= n;
+                }
+            }
+        }
+    }
+
+    private void writeBinaryStart(OutputStream result, long size) throws IOException {
+        result.write('\n');
+        result.write(PICTURE_BINARY_DATA);
+        writeInt(result, (int) size);
+        result.write(DELIMITER);
+    }
+
     /**
      * Returns the image raw data size in bytes.
      *
@@ -315,37 +442,36 @@ public class RtfImage extends RtfElement {
             break;
         }
         result.write(PICTURE_WIDTH);
-        result.write(intToByteArray((int) width));
+        writeInt(result, (int) width);
         result.write(PICTURE_HEIGHT);
-        result.write(intToByteArray((int) height));
+        writeInt(result, (int) height);
         if (this.document.getDocumentSettings().isWriteImageScalingInformation()) {
             result.write(PICTURE_SCALE_X);
-            result.write(intToByteArray((int) (100 * plainWidth / width)));
+            writeInt(result, (int) (100 * plainWidth / width));
             result.write(PICTURE_SCALE_Y);
-            result.write(intToByteArray((int) (100 * plainHeight / height)));
+            writeInt(result, (int) (100 * plainHeight / height));
         }
         if (this.document.getDocumentSettings().isImagePDFConformance()) {
             result.write(PICTURE_SCALED_WIDTH);
-            result.write(intToByteArray((int) (plainWidth * RtfElement.TWIPS_FACTOR)));
+            writeInt(result, (int) (plainWidth * RtfElement.TWIPS_FACTOR));
             result.write(PICTURE_SCALED_HEIGHT);
-            result.write(intToByteArray((int) (plainHeight * RtfElement.TWIPS_FACTOR)));
+            writeInt(result, (int) (plainHeight * RtfElement.TWIPS_FACTOR));
         } else {
             if (this.width != this.plainWidth || this.imageType == Image.ORIGINAL_BMP) {
                 result.write(PICTURE_SCALED_WIDTH);
-                result.write(intToByteArray((int) (plainWidth * PIXEL_TWIPS_FACTOR)));
+                writeInt(result, (int) (plainWidth * PIXEL_TWIPS_FACTOR));
             }
             if (this.height != this.plainHeight || this.imageType == Image.ORIGINAL_BMP) {
                 result.write(PICTURE_SCALED_HEIGHT);
-                result.write(intToByteArray((int) (plainHeight * PIXEL_TWIPS_FACTOR)));
+                writeInt(result, (int) (plainHeight * PIXEL_TWIPS_FACTOR));
             }
         }
 
-        if (this.document.getDocumentSettings().isImageWrittenAsBinary()) {
+        if (imageSource != null) {
+            writeImageSource(result, this.document.getDocumentSettings().isImageWrittenAsBinary());
+        } else if (this.document.getDocumentSettings().isImageWrittenAsBinary()) {
             // binary
-            result.write('\n');
-            result.write(PICTURE_BINARY_DATA);
-            result.write(intToByteArray(imageDataSize()));
-            result.write(DELIMITER);
+            writeBinaryStart(result, imageDataSize());
             if (result instanceof RtfByteArrayBuffer) {
                 ((RtfByteArrayBuffer) result).append(imageData);
             } else {
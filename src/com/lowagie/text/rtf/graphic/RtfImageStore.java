@@ -0,0 +1,160 @@
+package com.lowagie.text.rtf.graphic;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The RtfImageStore keeps one copy of the binary data of every distinct image
+ * in a document. RtfImages with equal content share the stored data. The data
+ * is only referenced weakly, so images that have been written to the data cache
+ * and are no longer used can still be garbage collected.
+ */
+public class RtfImageStore {
+
+    private static final class Entry extends WeakReference<byte[][]> {
+
+        final int hash;
+        final long size;
+        Entry next;
+
+        Entry(byte[][] data, int hash, long size, ReferenceQueue<byte[][]> queue) {
+            super(data, queue);
+            this.hash = hash;
+            this.size = size;
+        }
+    }
+
+    /**
+     * The stored images, keyed by the content hash.
+     */
+    private final Map<Integer, Entry> images = new HashMap<>();
+    /**
+     * The queue of entries whose image data has been garbage collected.
+     */
+    private final ReferenceQueue<byte[][]> collected = new ReferenceQueue<>();
+    /**
+     * The number of distinct images stored so far.
+     */
+    private int imageCount = 0;
+    /**
+     * The number of images looked up.
+     */
+    private int lookupCount = 0;
+    /**
+     * The number of lookups that found an already stored image.
+     */
+    private int hitCount = 0;
+    /**
+     * The number of bytes that did not have to be kept because of shared images.
+     */
+    private long savedBytes = 0;
+
+    /**
+     * Gets the stored copy of the image data. If no image with the same content
+     * is stored yet, the given data is stored and returned.
+     *
+     * @param data The image data
+     * @return The stored image data with the same content
+     */
+    public synchronized byte[][] getImageData(byte[][] data) {
+        removeCollectedEntries();
+        lookupCount++;
+        int hash = 1;
+        long size = 0;
+        for (byte[] chunk : data) {
+            for (byte b : chunk) {
+                hash = 31 * hash + b;
+            }
+            size += chunk.length;
+        }
+        Entry first = images.get(hash);
+        for (Entry entry = first; entry != null; entry = entry.next) {
+            byte[][] stored = entry.get();
+            if (stored != null && entry.size == size && contentEquals(stored, data)) {
+                hitCount++;
+                savedBytes += size;
+                return stored;
+            }
+        }
+        Entry entry = new Entry(data, hash, size, collected);
+        entry.next = first;
+        images.put(hash, entry);
+        imageCount++;
+        return data;
+    }
+
+    /**
+     * Removes the entries whose image data has been garbage collected.
+     */
+    private void removeCollectedEntries() {
+        Entry entry;
+        while ((entry = (Entry) collected.poll()) != null) {
+            Entry first = images.get(entry.hash);
+            if (first == entry) {
+                if (entry.next == null) {
+                    images.remove(entry.hash);
+                } else {
+                    images.put(entry.hash, entry.next);
+                }
+            } else {
+                for (Entry prev = first; prev != null; prev = prev.next) {
+                    if (prev.next == entry) {
+                        prev.next = entry.next;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean contentEquals(byte[][] a, byte[][] b) {
+        int ai = 0;
+        int ap = 0;
+        int bi = 0;
+        int bp = 0;
+        while (true) {
+            while (ai < a.length && ap == a[ai].length) {
+                ai++;
+                ap = 0;
+            }
+            while (bi < b.length && bp == b[bi].length) {
+                bi++;
+                bp = 0;
+            }
+            if (ai == a.length || bi == b.length)
+                return ai == a.length && bi == b.length;
+            if (a[ai][ap++] != b[bi][bp++])
+                return false;
+        }
+    }
+
+    /**
+     * Gets the number of distinct images stored so far.
+     */
+    public synchronized int getImageCount() {
+        return imageCount;
+    }
+
+    /**
+     * Gets the number of images looked up.
+     */
+    public synchronized int getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * Gets the number of lookups that were answered with an already stored image.
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of image bytes that are shared instead of being kept again.
+     */
+    public synchronized long getSavedBytes() {
+        return savedBytes;
+    }
+}
@@ -2,6 +2,7 @@ package com.lowagie.text.rtf.graphic;
 
 import com.lowagie.text.DocWriter;
 import com.lowagie.text.rtf.RtfAddableElement;
+import com.lowagie.text.rtf.document.RtfDocument;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -205,6 +206,16 @@ public class RtfShape extends RtfAddableElement {
         this.position = position;
     }
 
+    /**
+     * Sets the RtfDocument this RtfShape belongs to and draws the shape nr from it,
+     * so that it does not depend on the order of rendering.
+     */
+    @Override
+    public void setRtfDocument(RtfDocument doc) {
+        super.setRtfDocument(doc);
+        this.shapeNr = doc.getRandomInt();
+    }
+
     /**
      * Sets a property.
      *
@@ -239,8 +250,6 @@ public class RtfShape extends RtfAddableElement {
      */
     @Override
     public void writeContent(OutputStream result) throws IOException {
-        this.shapeNr = this.doc.getRandomInt();
-
         this.properties.put("ShapeType", new RtfShapeProperty("ShapeType", this.type));
         if (this.position.isShapeBelowText()) {
             this.properties.put("fBehindDocument", new RtfShapeProperty("fBehindDocument", true));
@@ -258,7 +267,7 @@ public class RtfShape extends RtfAddableElement {
         result.write(OPEN_GROUP);
         result.write(DocWriter.getISOBytes("\\shp"));
         result.write(DocWriter.getISOBytes("\\shplid"));
-        result.write(intToByteArray(this.shapeNr));
+        writeInt(result, this.shapeNr);
         this.position.writeContent(result);
         switch (this.wrapping) {
         case SHAPE_WRAP_NONE:
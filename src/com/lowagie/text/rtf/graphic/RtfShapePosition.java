@@ -168,15 +168,15 @@ public class RtfShapePosition extends RtfAddableElement {
     @Override
     public void writeContent(OutputStream result) throws IOException {
         result.write(DocWriter.getISOBytes("\\shpleft"));
-        result.write(intToByteArray(this.left));
+        writeInt(result, this.left);
         result.write(DocWriter.getISOBytes("\\shptop"));
-        result.write(intToByteArray(this.top));
+        writeInt(result, this.top);
         result.write(DocWriter.getISOBytes("\\shpright"));
-        result.write(intToByteArray(this.right));
+        writeInt(result, this.right);
         result.write(DocWriter.getISOBytes("\\shpbottom"));
-        result.write(intToByteArray(this.bottom));
+        writeInt(result, this.bottom);
         result.write(DocWriter.getISOBytes("\\shpz"));
-        result.write(intToByteArray(this.zOrder));
+        writeInt(result, this.zOrder);
         switch (this.xRelativePos) {
         case POSITION_X_RELATIVE_PAGE:
             result.write(DocWriter.getISOBytes("\\shpbxpage"));
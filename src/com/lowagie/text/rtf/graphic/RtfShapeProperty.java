@@ -255,16 +255,16 @@ public class RtfShapeProperty extends RtfAddableElement {
             break;
         case PROPERTY_TYPE_COLOR:
             Color color = (Color) this.value;
-            result.write(intToByteArray(color.getRed() | (color.getGreen() << 8) | (color.getBlue() << 16)));
+            writeInt(result, color.getRed() | (color.getGreen() << 8) | (color.getBlue() << 16));
             break;
         case PROPERTY_TYPE_ARRAY:
             if (this.value instanceof int[]) {
                 int[] values = (int[]) this.value;
                 result.write(DocWriter.getISOBytes("4;"));
-                result.write(intToByteArray(values.length));
+                writeInt(result, values.length);
                 result.write(COMMA_DELIMITER);
                 for (int i = 0; i < values.length; i++) {
-                    result.write(intToByteArray(values[i]));
+                    writeInt(result, values[i]);
                     if (i < values.length - 1) {
                         result.write(COMMA_DELIMITER);
                     }
@@ -272,13 +272,13 @@ public class RtfShapeProperty extends RtfAddableElement {
             } else if (this.value instanceof Point[]) {
                 Point[] values = (Point[]) this.value;
                 result.write(DocWriter.getISOBytes("8;"));
-                result.write(intToByteArray(values.length));
+                writeInt(result, values.length);
                 result.write(COMMA_DELIMITER);
                 for (int i = 0; i < values.length; i++) {
                     result.write(DocWriter.getISOBytes("("));
-                    result.write(intToByteArray(values[i].x));
+                    writeInt(result, values[i].x);
                     result.write(DocWriter.getISOBytes(","));
-                    result.write(intToByteArray(values[i].y));
+                    writeInt(result, values[i].y);
                     result.write(DocWriter.getISOBytes(")"));
                     if (i < values.length - 1) {
                         result.write(COMMA_DELIMITER);
@@ -352,7 +352,7 @@ public class RtfList extends RtfElement implements RtfExtendedElement {
         result.write(OPEN_GROUP);
         result.write(LIST);
         result.write(LIST_TEMPLATE_ID);
-        result.write(intToByteArray(document.getRandomInt()));
+        writeInt(result, document.getRandomInt());
 
         int levelsToWrite = -1;
 
@@ -362,7 +362,7 @@ public class RtfList extends RtfElement implements RtfExtendedElement {
             break;
         case LIST_TYPE_SIMPLE:
             result.write(LIST_SIMPLE);
-            result.write(intToByteArray(1));
+            writeInt(result, 1);
             levelsToWrite = 1;
             break;
         case LIST_TYPE_HYBRID:
@@ -392,7 +392,7 @@ public class RtfList extends RtfElement implements RtfExtendedElement {
         }
 
         result.write(LIST_ID);
-        result.write(intToByteArray(this.listID));
+        writeInt(result, this.listID);
         result.write(CLOSE_GROUP);
         this.document.outputDebugLinebreak(result);
         if (items != null) {
@@ -477,16 +477,16 @@ public class RtfList extends RtfElement implements RtfExtendedElement {
         }
         result.write(RtfFontList.FONT_NUMBER);
         if (listLevel.getListType() != RtfListLevel.LIST_TYPE_BULLET) {
-            result.write(intToByteArray(listLevel.getFontNumber().getFontNumber()));
+            writeInt(result, listLevel.getFontNumber().getFontNumber());
         } else {
-            result.write(intToByteArray(listLevel.getFontBullet().getFontNumber()));
+            writeInt(result, listLevel.getFontBullet().getFontNumber());
         }
         listLevel.writeIndentation(result);
         result.write(DELIMITER);
         if (listLevel.getListType() != RtfListLevel.LIST_TYPE_BULLET) {
             switch (listLevel.getListType()) {
             case RtfListLevel.LIST_TYPE_NUMBERED:
-                result.write(intToByteArray(itemNr));
+                writeInt(result, itemNr);
                 break;
             case RtfListLevel.LIST_TYPE_UPPER_LETTERS:
                 result.write(DocWriter.getISOBytes(RomanAlphabetFactory.getUpperCaseString(itemNr)));
@@ -517,8 +517,11 @@ public class RtfList extends RtfElement implements RtfExtendedElement {
      * @since 2.1.3
      */
     protected void writeListNumbers(OutputStream result) throws IOException {
+        // lists created after the list table was written are plain paragraphs
+        if (listNumber < 0)
+            return;
         result.write(LIST_NUMBER);
-        result.write(intToByteArray(listNumber));
+        writeInt(result, listNumber);
     }
 
     /**
@@ -95,15 +95,15 @@ public class RtfListItem extends RtfParagraph {
     public void writeContent(OutputStream result) throws IOException {
         if (this.paragraphStyle.getSpacingBefore() > 0) {
             result.write(RtfParagraphStyle.SPACING_BEFORE);
-            result.write(intToByteArray(paragraphStyle.getSpacingBefore()));
+            writeInt(result, paragraphStyle.getSpacingBefore());
         }
         if (this.paragraphStyle.getSpacingAfter() > 0) {
             result.write(RtfParagraphStyle.SPACING_AFTER);
-            result.write(intToByteArray(this.paragraphStyle.getSpacingAfter()));
+            writeInt(result, this.paragraphStyle.getSpacingAfter());
         }
         if (this.paragraphStyle.getLineLeading() > 0) {
             result.write(RtfParagraph.LINE_SPACING);
-            result.write(intToByteArray(this.paragraphStyle.getLineLeading()));
+            writeInt(result, this.paragraphStyle.getLineLeading());
         }
         for (RtfBasicElement rtfElement : chunks) {
             if (rtfElement instanceof RtfChunk) {
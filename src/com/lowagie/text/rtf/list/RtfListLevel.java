@@ -393,57 +393,57 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
         result.write(LIST_LEVEL_TYPE);
         switch (this.listType) {
         case LIST_TYPE_BULLET:
-            result.write(intToByteArray(23));
+            writeInt(result, 23);
             break;
         case LIST_TYPE_NUMBERED:
-            result.write(intToByteArray(0));
+            writeInt(result, 0);
             break;
         case LIST_TYPE_UPPER_LETTERS:
-            result.write(intToByteArray(3));
+            writeInt(result, 3);
             break;
         case LIST_TYPE_LOWER_LETTERS:
-            result.write(intToByteArray(4));
+            writeInt(result, 4);
             break;
         case LIST_TYPE_UPPER_ROMAN:
-            result.write(intToByteArray(1));
+            writeInt(result, 1);
             break;
         case LIST_TYPE_LOWER_ROMAN:
-            result.write(intToByteArray(2));
+            writeInt(result, 2);
             break;
         /* New types */
         case LIST_TYPE_ARABIC:
-            result.write(intToByteArray(0));
+            writeInt(result, 0);
             break;
         case LIST_TYPE_UPPERCASE_ROMAN_NUMERAL:
-            result.write(intToByteArray(1));
+            writeInt(result, 1);
             break;
         case LIST_TYPE_LOWERCASE_ROMAN_NUMERAL:
-            result.write(intToByteArray(2));
+            writeInt(result, 2);
             break;
         case LIST_TYPE_UPPERCASE_LETTER:
-            result.write(intToByteArray(3));
+            writeInt(result, 3);
             break;
         case LIST_TYPE_ORDINAL_NUMBER:
-            result.write(intToByteArray(4));
+            writeInt(result, 4);
             break;
         case LIST_TYPE_CARDINAL_TEXT_NUMBER:
-            result.write(intToByteArray(5));
+            writeInt(result, 5);
             break;
         case LIST_TYPE_ORDINAL_TEXT_NUMBER:
-            result.write(intToByteArray(6));
+            writeInt(result, 6);
             break;
         case LIST_TYPE_LOWERCASE_LETTER:
-            result.write(intToByteArray(7));
+            writeInt(result, 7);
             break;
         case LIST_TYPE_ARABIC_LEADING_ZERO:
-            result.write(intToByteArray(22));
+            writeInt(result, 22);
             break;
         case LIST_TYPE_NO_NUMBER:
-            result.write(intToByteArray(255));
+            writeInt(result, 255);
             break;
         default:    // catch all for other unsupported types
             if (this.listType >= LIST_TYPE_BASE) {
-                result.write(intToByteArray(this.listType - LIST_TYPE_BASE));
+                writeInt(result, this.listType - LIST_TYPE_BASE);
             }
             break;
         }
@@ -451,68 +451,68 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
         result.write(LIST_LEVEL_TYPE_NEW);
         switch (this.listType) {
         case LIST_TYPE_BULLET:
-            result.write(intToByteArray(23));
+            writeInt(result, 23);
             break;
         case LIST_TYPE_NUMBERED:
-            result.write(intToByteArray(0));
+            writeInt(result, 0);
             break;
         case LIST_TYPE_UPPER_LETTERS:
-            result.write(intToByteArray(3));
+            writeInt(result, 3);
             break;
         case LIST_TYPE_LOWER_LETTERS:
-            result.write(intToByteArray(4));
+            writeInt(result, 4);
             break;
         case LIST_TYPE_UPPER_ROMAN:
-            result.write(intToByteArray(1));
+            writeInt(result, 1);
             break;
         case LIST_TYPE_LOWER_ROMAN:
-            result.write(intToByteArray(2));
+            writeInt(result, 2);
             break;
         /* New types */
         case LIST_TYPE_ARABIC:
-            result.write(intToByteArray(0));
+            writeInt(result, 0);
             break;
         case LIST_TYPE_UPPERCASE_ROMAN_NUMERAL:
-            result.write(intToByteArray(1));
+            writeInt(result, 1);
             break;
         case LIST_TYPE_LOWERCASE_ROMAN_NUMERAL:
-            result.write(intToByteArray(2));
+            writeInt(result, 2);
             break;
         case LIST_TYPE_UPPERCASE_LETTER:
-            result.write(intToByteArray(3));
+            writeInt(result, 3);
             break;
         case LIST_TYPE_ORDINAL_NUMBER:
-            result.write(intToByteArray(4));
+            writeInt(result, 4);
             break;
         case LIST_TYPE_CARDINAL_TEXT_NUMBER:
-            result.write(intToByteArray(5));
+            writeInt(result, 5);
             break;
         case LIST_TYPE_ORDINAL_TEXT_NUMBER:
-            result.write(intToByteArray(6));
+            writeInt(result, 6);
             break;
         case LIST_TYPE_LOWERCASE_LETTER:
-            result.write(intToByteArray(7));
+            writeInt(result, 7);
             break;
         case LIST_TYPE_ARABIC_LEADING_ZERO:
-            result.write(intToByteArray(22));
+            writeInt(result, 22);
             break;
         case LIST_TYPE_NO_NUMBER:
-            result.write(intToByteArray(255));
+            writeInt(result, 255);
             break;
         default:    // catch all for other unsupported types
             if (this.listType >= LIST_TYPE_BASE) {
-                result.write(intToByteArray(this.listType - LIST_TYPE_BASE));
+                writeInt(result, this.listType - LIST_TYPE_BASE);
             }
             break;
         }
         result.write(LIST_LEVEL_ALIGNMENT);
-        result.write(intToByteArray(0));
+        writeInt(result, 0);
         result.write(LIST_LEVEL_ALIGNMENT_NEW);
-        result.write(intToByteArray(0));
+        writeInt(result, 0);
         result.write(LIST_LEVEL_FOLOW);
-        result.write(intToByteArray(levelFollowValue));
+        writeInt(result, levelFollowValue);
         result.write(LIST_LEVEL_START_AT);
-        result.write(intToByteArray(this.listStartAt));
+        writeInt(result, this.listStartAt);
         if (this.isTentative) {
             result.write(LIST_LEVEL_TENTATIVE);
         }
@@ -520,18 +520,18 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
             result.write(LIST_LEVEL_LEGAL);
         }
         result.write(LIST_LEVEL_SPACE);
-        result.write(intToByteArray(0));
+        writeInt(result, 0);
         result.write(LIST_LEVEL_INDENT);
-        result.write(intToByteArray(0));
+        writeInt(result, 0);
         if (levelPicture != -1) {
             result.write(LIST_LEVEL_PICTURE);
-            result.write(intToByteArray(levelPicture));
+            writeInt(result, levelPicture);
         }
 
         result.write(OPEN_GROUP); // { leveltext
         result.write(LIST_LEVEL_TEXT);
         result.write(LIST_LEVEL_TEMPLATE_ID);
-        result.write(intToByteArray(this.templateID));
+        writeInt(result, this.templateID);
         /* NEVER seperate the LEVELTEXT elements with a return in between
          * them or it will not fuction correctly!
          */
@@ -539,9 +539,9 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
         if (this.listType != LIST_TYPE_BULLET) {
             result.write(LIST_LEVEL_STYLE_NUMBERED_BEGIN);
             if (this.levelTextNumber < 10) {
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
-            result.write(intToByteArray(this.levelTextNumber));
+            writeInt(result, this.levelTextNumber);
             result.write(LIST_LEVEL_STYLE_NUMBERED_END);
         } else {
             result.write(LIST_LEVEL_STYLE_BULLETED_BEGIN);
@@ -561,12 +561,12 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
         // write properties now
         result.write(RtfFontList.FONT_NUMBER);
         if (this.listType != LIST_TYPE_BULLET) {
-            result.write(intToByteArray(fontNumber.getFontNumber()));
+            writeInt(result, fontNumber.getFontNumber());
         } else {
-            result.write(intToByteArray(fontBullet.getFontNumber()));
+            writeInt(result, fontBullet.getFontNumber());
         }
         result.write(DocWriter.getISOBytes("\\cf"));
-        result.write(intToByteArray(document.getDocumentHeader().getColorNumber(new RtfColor(this.document, this.getFontNumber().getColor()))));
+        writeInt(result, RtfColor.getInstance(this.document, this.getFontNumber().getColor()).getColorNumber());
 
         writeIndentation(result);
         result.write(CLOSE_GROUP);
@@ -590,7 +590,7 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
 
         if (listLevel > 0) {
             result.write(RtfList.LIST_LEVEL_NUMBER);
-            result.write(intToByteArray(listLevel));
+            writeInt(result, listLevel);
         }
     }
 
@@ -602,13 +602,13 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
      */
     public void writeIndentation(OutputStream result) throws IOException {
         result.write(LIST_LEVEL_FIRST_INDENT);
-        result.write(intToByteArray(firstIndent));
+        writeInt(result, firstIndent);
         result.write(RtfParagraphStyle.INDENT_LEFT);
-        result.write(intToByteArray(leftIndent));
+        writeInt(result, leftIndent);
         result.write(RtfParagraphStyle.INDENT_RIGHT);
-        result.write(intToByteArray(rightIndent));
+        writeInt(result, rightIndent);
         result.write(LIST_LEVEL_SYMBOL_INDENT);
-        result.write(intToByteArray(this.leftIndent));
+        writeInt(result, this.leftIndent);
     }
 
     /**
@@ -639,10 +639,10 @@ public class RtfListLevel extends RtfElement implements RtfExtendedElement {
         }
         writeIndentation(result);
         result.write(RtfFont.FONT_SIZE);
-        result.write(intToByteArray(fontNumber.getFontSize() * 2));
+        writeInt(result, fontNumber.getFontSize() * 2);
         if (this.symbolIndent > 0) {
             result.write(LIST_LEVEL_SYMBOL_INDENT);
-            result.write(intToByteArray(this.leftIndent));
+            writeInt(result, this.leftIndent);
         }
     }
 
@@ -93,6 +93,10 @@ public class RtfListTable extends RtfElement implements RtfExtendedElement {
      * The RtfPictureList lists managed by this RtfListTable
      */
     private final List<RtfPictureList> picturelists = new ArrayList<>();
+    /**
+     * Whether the list table has already been written
+     */
+    private boolean locked = false;
 
     /**
      * Constructs a RtfListTable for a RtfDocument
@@ -114,7 +118,7 @@ public class RtfListTable extends RtfElement implements RtfExtendedElement {
      * Writes the list and list override tables.
      */
     @Override
-    public void writeDefinition(OutputStream result) throws IOException {
+    public synchronized void writeDefinition(OutputStream result) throws IOException {
         result.write(OPEN_GROUP);
         result.write(LIST_TABLE);
         this.document.outputDebugLinebreak(result);
@@ -143,11 +147,11 @@ public class RtfListTable extends RtfElement implements RtfExtendedElement {
             result.write(OPEN_GROUP);
             result.write(LIST_OVERRIDE);
             result.write(RtfList.LIST_ID);
-            result.write(intToByteArray(list.getID()));
+            writeInt(result, list.getID());
             result.write(LIST_OVERRIDE_COUNT);
-            result.write(intToByteArray(0));    // is this correct? Spec says valid values are 1 or 9.
+            writeInt(result, 0);    // is this correct? Spec says valid values are 1 or 9.
             result.write(RtfList.LIST_NUMBER);
-            result.write(intToByteArray(list.getListNumber()));
+            writeInt(result, list.getListNumber());
             result.write(CLOSE_GROUP);
             this.document.outputDebugLinebreak(result);
         }
@@ -160,23 +164,35 @@ public class RtfListTable extends RtfElement implements RtfExtendedElement {
      * list of RtfList, then it is added.
      *
      * @param list The RtfList for which to get the id.
-     * @return The id of the RtfList.
+     * @return The id of the RtfList, or -1 if the list table has already been written.
      */
-    public int getListNumber(RtfList list) {
+    public synchronized int getListNumber(RtfList list) {
         if (lists.contains(list)) {
             return lists.indexOf(list);
         } else {
+            if (locked) {
+                this.document.getDocumentSettings().getLogger().warn("List was created after the list table was written, list numbering will not be available.");
+                return -1;
+            }
             lists.add(list);
             return lists.size();
         }
     }
 
+    /**
+     * Locks the list table. Lists that are not in the table yet get no list number
+     * from now on. Used when the document is streamed and the list table has already been written.
+     */
+    public synchronized void lock() {
+        this.locked = true;
+    }
+
     /**
      * Remove a RtfList from the list of RtfList
      *
      * @param list The RtfList to remove.
      */
-    public void freeListNumber(RtfList list) {
+    public synchronized void freeListNumber(RtfList list) {
         int i = lists.indexOf(list);
         if (i >= 0) {
             lists.remove(i);
@@ -183,6 +183,40 @@ public class RtfColor extends RtfElement implements RtfExtendedElement {
         }
     }
 
+    /**
+     * Gets the RtfColor for the Color from the color list of the RtfDocument. The returned
+     * RtfColor is shared and must not be modified. If there is no RtfDocument, then a new
+     * RtfColor is created.
+     *
+     * @param doc The RtfDocument the RtfColor belongs to
+     * @param col The Color to get the RtfColor for
+     * @return The RtfColor for the Color
+     */
+    public static RtfColor getInstance(RtfDocument doc, Color col) {
+        if (col == null) {
+            return getInstance(doc, 0, 0, 0);
+        }
+        return getInstance(doc, col.getRed(), col.getGreen(), col.getBlue());
+    }
+
+    /**
+     * Gets the RtfColor for the red/green/blue values from the color list of the RtfDocument.
+     * The returned RtfColor is shared and must not be modified. If there is no RtfDocument,
+     * then a new RtfColor is created.
+     *
+     * @param doc   The RtfDocument the RtfColor belongs to
+     * @param red   The red value to use
+     * @param green The green value to use
+     * @param blue  The blue value to use
+     * @return The RtfColor for the red/green/blue values
+     */
+    public static RtfColor getInstance(RtfDocument doc, int red, int green, int blue) {
+        if (doc == null) {
+            return new RtfColor(null, red, green, blue);
+        }
+        return doc.getDocumentHeader().getColor(red, green, blue);
+    }
+
     /**
      * unused
      */
@@ -196,11 +230,11 @@ public class RtfColor extends RtfElement implements RtfExtendedElement {
     @Override
     public void writeDefinition(OutputStream result) throws IOException {
         result.write(COLOR_RED);
-        result.write(intToByteArray(red));
+        writeInt(result, red);
         result.write(COLOR_GREEN);
-        result.write(intToByteArray(green));
+        writeInt(result, green);
         result.write(COLOR_BLUE);
-        result.write(intToByteArray(blue));
+        writeInt(result, blue);
         result.write(COLON);
     }
 
@@ -209,7 +243,7 @@ public class RtfColor extends RtfElement implements RtfExtendedElement {
      */
     public void writeBegin(OutputStream result) throws IOException {
         result.write(COLOR_NUMBER);
-        result.write(intToByteArray(colorNumber));
+        writeInt(result, colorNumber);
     }
 
     /**
@@ -245,7 +279,31 @@ public class RtfColor extends RtfElement implements RtfExtendedElement {
      */
     @Override
     public int hashCode() {
-        return (this.red << 16) | (this.green << 8) | this.blue;
+        return colorKey(this.red, this.green, this.blue);
+    }
+
+    /**
+     * Tests if this RtfColor has the given red, green and blue values.
+     *
+     * @param red   The red value
+     * @param green The green value
+     * @param blue  The blue value
+     * @return <code>True</code> if the values match, <code>false</code> otherwise.
+     */
+    boolean matches(int red, int green, int blue) {
+        return this.red == red && this.green == green && this.blue == blue;
+    }
+
+    /**
+     * Gets the hash code of a RtfColor with the given red, green and blue values.
+     *
+     * @param red   The red value
+     * @param green The green value
+     * @param blue  The blue value
+     * @return The hash code
+     */
+    static int colorKey(int red, int green, int blue) {
+        return (red << 16) | (green << 8) | blue;
     }
 
     /**
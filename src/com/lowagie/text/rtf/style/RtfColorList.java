@@ -56,7 +56,9 @@ import com.lowagie.text.rtf.document.RtfDocument;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The RtfColorList stores all colors that appear in the document. Black
@@ -77,6 +79,15 @@ public class RtfColorList extends RtfElement implements RtfExtendedElement {
      * ArrayList containing all colors of this RtfColorList
      */
     private final List<RtfColor> colorList = new ArrayList<>();
+    /**
+     * The colors of this RtfColorList by their red, green and blue values, including
+     * the black replacements of colors used after the list was locked
+     */
+    private final Map<Integer, RtfColor> colorIndex = new HashMap<>();
+    /**
+     * Whether the color table has already been written and no more colors can be added
+     */
+    private boolean locked = false;
 
     /**
      * Constructs a new RtfColorList for the RtfDocument. Will add the default
@@ -86,8 +97,8 @@ public class RtfColorList extends RtfElement implements RtfExtendedElement {
      */
     public RtfColorList(RtfDocument doc) {
         super(doc);
-        colorList.add(new RtfColor(doc, 0, 0, 0, 0));
-        colorList.add(new RtfColor(doc, 255, 255, 255, 1));
+        addColor(0, 0, 0);
+        addColor(255, 255, 255);
     }
 
     /**
@@ -97,18 +108,63 @@ public class RtfColorList extends RtfElement implements RtfExtendedElement {
      * @param color The RtfColor for which to get the index
      * @return The index of the RtfColor
      */
-    public int getColorNumber(RtfColor color) {
-        int colorIndex = -1;
-        for (int i = 0; i < colorList.size(); i++) {
-            if (colorList.get(i).equals(color)) {
-                colorIndex = i;
+    public synchronized int getColorNumber(RtfColor color) {
+        return getColor(color.getRed(), color.getGreen(), color.getBlue()).getColorNumber();
+    }
+
+    /**
+     * Returns the RtfColor of the color list with the given red, green and blue values.
+     * If there is no such color in the list, then it is added. The returned RtfColor is
+     * shared by all users of the same color and must not be modified.
+     *
+     * @param red   The red value
+     * @param green The green value
+     * @param blue  The blue value
+     * @return The RtfColor from the color list
+     */
+    public synchronized RtfColor getColor(int red, int green, int blue) {
+        RtfColor color = colorIndex.get(RtfColor.colorKey(red, green, blue));
+        if (color != null && color.matches(red, green, blue)) {
+            return color;
+        }
+        if (color != null) {
+            // keys only collide for values outside of 0-255
+            for (RtfColor c : colorList) {
+                if (c.matches(red, green, blue)) {
+                    return c;
+                }
             }
         }
-        if (colorIndex == -1) {
-            colorIndex = colorList.size();
-            colorList.add(color);
+        if (locked) {
+            this.document.getDocumentSettings().getLogger().warn("Color " + red + "," + green + "," + blue + " was not declared before the color table was written, using black.");
+            RtfColor replacement = new RtfColor(this.document, red, green, blue, 0);
+            colorIndex.putIfAbsent(replacement.hashCode(), replacement);
+            return replacement;
         }
-        return colorIndex;
+        return addColor(red, green, blue);
+    }
+
+    /**
+     * Adds a new color to the end of the color list.
+     *
+     * @param red   The red value
+     * @param green The green value
+     * @param blue  The blue value
+     * @return The added RtfColor
+     */
+    private RtfColor addColor(int red, int green, int blue) {
+        RtfColor color = new RtfColor(this.document, red, green, blue, colorList.size());
+        colorList.add(color);
+        colorIndex.putIfAbsent(color.hashCode(), color);
+        return color;
+    }
+
+    /**
+     * Locks the color list. Colors that are not in the list yet are mapped to black
+     * from now on, with one warning per color. Used when the document is streamed and the color table has already been written.
+     */
+    public synchronized void lock() {
+        this.locked = true;
     }
 
     /**
@@ -123,7 +179,7 @@ public class RtfColorList extends RtfElement implements RtfExtendedElement {
      * methods of the RtfColors in the color list.
      */
     @Override
-    public void writeDefinition(OutputStream result) throws IOException {
+    public synchronized void writeDefinition(OutputStream result) throws IOException {
         result.write(OPEN_GROUP);
         result.write(COLOR_TABLE);
         for (RtfColor color : colorList) {
@@ -52,13 +52,14 @@ import com.lowagie.text.DocWriter;
 import com.lowagie.text.Font;
 import com.lowagie.text.rtf.RtfExtendedElement;
 import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
 
 import java.awt.Color;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Objects;
 
-import static com.lowagie.text.rtf.RtfElement.intToByteArray;
+import static com.lowagie.text.rtf.RtfElement.writeInt;
 
 /**
  * The RtfFont class stores one font for an rtf document. It extends Font,
@@ -210,6 +211,11 @@ public class RtfFont extends Font implements RtfExtendedElement {
      * The RtfDocument this RtfFont belongs to.
      */
     protected RtfDocument document = null;
+    /**
+     * The bytes written by writeBegin and writeEnd, null until they are first needed.
+     * Volatile because stylesheet fonts are shared by the render tasks of all threads.
+     */
+    private volatile byte[][] fontBytes = null;
 
     /**
      * Constructs a RtfFont with the given font name and all other properties
@@ -285,7 +291,7 @@ public class RtfFont extends Font implements RtfExtendedElement {
     protected RtfFont(RtfDocument doc, int fontNumber) {
         this.document = doc;
         this.fontNumber = fontNumber;
-        color = new RtfColor(doc, 0, 0, 0);
+        color = RtfColor.getInstance(doc, 0, 0, 0);
     }
 
     /**
@@ -328,7 +334,7 @@ public class RtfFont extends Font implements RtfExtendedElement {
     public void writeDefinition(OutputStream result) throws IOException {
         result.write(FONT_FAMILY);
         result.write(FONT_CHARSET);
-        result.write(intToByteArray(charset));
+        writeInt(result, charset);
         result.write(DELIMITER);
         document.filterSpecialChar(result, fontName, true, false);
     }
@@ -340,13 +346,74 @@ public class RtfFont extends Font implements RtfExtendedElement {
      * @throws IOException On i/o errors.
      */
     public void writeBegin(OutputStream result) throws IOException {
+        result.write(getFontBytes()[0]);
+    }
+
+    /**
+     * Write the font end
+     *
+     * @param result The <code>OutputStream</code> to write to.
+     * @throws IOException On i/o errors.
+     */
+    public void writeEnd(OutputStream result) throws IOException {
+        byte[] end = getFontBytes()[1];
+        if (end.length > 0) {
+            result.write(end);
+        }
+    }
+
+    /**
+     * Gets the begin and end bytes of this RtfFont. Fonts of a document with the same
+     * font number, size, style and color share the bytes.
+     */
+    private byte[][] getFontBytes() throws IOException {
+        byte[][] bytes = this.fontBytes;
+        if (bytes == null) {
+            long key = getFontBytesKey();
+            if (this.document != null && key >= 0) {
+                bytes = this.document.getDocumentHeader().getFontList().getFontBytes(key, this);
+            } else {
+                bytes = computeBytes();
+            }
+            this.fontBytes = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Packs the attributes written by writeBegin and writeEnd into one value.
+     *
+     * @return The packed attributes, or -1 if they are out of range
+     */
+    private long getFontBytesKey() {
+        long number = this.fontNumber + 1L;
+        long size = this.fontSize + 1L;
+        long style = this.fontStyle == UNDEFINED ? 0 : (this.fontStyle & 0x3FF) + 1;
+        long colorNumber = this.color == null ? 0 : this.color.getColorNumber() + 1L;
+        if (number < 0 || number > 0x1FFFF || size < 0 || size > 0xFFFF || colorNumber < 0 || colorNumber > 0x1FFFF)
+            return -1;
+        return number << 45 | size << 29 | style << 17 | colorNumber;
+    }
+
+    /**
+     * Computes the begin and end bytes of this RtfFont.
+     */
+    byte[][] computeBytes() throws IOException {
+        try (RtfByteArrayBuffer begin = new RtfByteArrayBuffer(); RtfByteArrayBuffer end = new RtfByteArrayBuffer()) {
+            computeBegin(begin);
+            computeEnd(end);
+            return new byte[][] {begin.toByteArray(), end.toByteArray()};
+        }
+    }
+
+    private void computeBegin(OutputStream result) throws IOException {
         if (this.fontNumber != Font.UNDEFINED) {
             result.write(RtfFontList.FONT_NUMBER);
-            result.write(intToByteArray(fontNumber));
+            writeInt(result, fontNumber);
         }
         if (this.fontSize != Font.UNDEFINED) {
             result.write(FONT_SIZE);
-            result.write(intToByteArray(fontSize * 2));
+            writeInt(result, fontSize * 2);
         }
         if (this.fontStyle != UNDEFINED) {
             if ((fontStyle & STYLE_BOLD) == STYLE_BOLD) {
@@ -366,7 +433,7 @@ public class RtfFont extends Font implements RtfExtendedElement {
             }
             if ((fontStyle & STYLE_DOUBLE_STRIKETHROUGH) == STYLE_DOUBLE_STRIKETHROUGH) {
                 result.write(FONT_DOUBLE_STRIKETHROUGH);
-                result.write(intToByteArray(1));
+                writeInt(result, 1);
             }
             if ((fontStyle & STYLE_SHADOW) == STYLE_SHADOW) {
                 result.write(FONT_SHADOW);
@@ -386,53 +453,47 @@ public class RtfFont extends Font implements RtfExtendedElement {
         }
     }
 
-    /**
-     * Write the font end
-     *
-     * @param result The <code>OutputStream</code> to write to.
-     * @throws IOException On i/o errors.
-     */
-    public void writeEnd(OutputStream result) throws IOException {
+    private void computeEnd(OutputStream result) throws IOException {
         if (this.fontStyle != UNDEFINED) {
             if ((fontStyle & STYLE_BOLD) == STYLE_BOLD) {
                 result.write(FONT_BOLD);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_ITALIC) == STYLE_ITALIC) {
                 result.write(FONT_ITALIC);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_UNDERLINE) == STYLE_UNDERLINE) {
                 result.write(FONT_UNDERLINE);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_STRIKETHROUGH) == STYLE_STRIKETHROUGH) {
                 result.write(FONT_STRIKETHROUGH);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_HIDDEN) == STYLE_HIDDEN) {
                 result.write(FONT_HIDDEN);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_DOUBLE_STRIKETHROUGH) == STYLE_DOUBLE_STRIKETHROUGH) {
                 result.write(FONT_DOUBLE_STRIKETHROUGH);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_SHADOW) == STYLE_SHADOW) {
                 result.write(FONT_SHADOW);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_OUTLINE) == STYLE_OUTLINE) {
                 result.write(FONT_OUTLINE);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_EMBOSSED) == STYLE_EMBOSSED) {
                 result.write(FONT_EMBOSSED);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
             if ((fontStyle & STYLE_ENGRAVED) == STYLE_ENGRAVED) {
                 result.write(FONT_ENGRAVED);
-                result.write(intToByteArray(0));
+                writeInt(result, 0);
             }
         }
     }
@@ -488,6 +549,7 @@ public class RtfFont extends Font implements RtfExtendedElement {
      */
     protected void setFontName(String fontName) {
         this.fontName = fontName;
+        this.fontBytes = null;
         if (document != null) {
             this.fontNumber = document.getDocumentHeader().getFontNumber(this);
         }
@@ -554,6 +616,7 @@ public class RtfFont extends Font implements RtfExtendedElement {
     public void setSize(float size) {
         super.setSize(size);
         this.fontSize = (int) getSize();
+        this.fontBytes = null;
     }
 
     /**
@@ -572,6 +635,7 @@ public class RtfFont extends Font implements RtfExtendedElement {
     public void setStyle(int style) {
         super.setStyle(style);
         this.fontStyle = getStyle();
+        this.fontBytes = null;
     }
 
     /**
@@ -581,6 +645,7 @@ public class RtfFont extends Font implements RtfExtendedElement {
     public void setStyle(String style) {
         super.setStyle(style);
         fontStyle = getStyle();
+        this.fontBytes = null;
     }
 
     /**
@@ -618,11 +683,12 @@ public class RtfFont extends Font implements RtfExtendedElement {
     @Override
     public void setRtfDocument(RtfDocument doc) {
         this.document = doc;
+        this.fontBytes = null;
         if (document != null) {
             this.fontNumber = document.getDocumentHeader().getFontNumber(this);
         }
-        if (this.color != null) {
-            this.color.setRtfDocument(this.document);
+        if (this.color != null && this.document != null) {
+            this.color = RtfColor.getInstance(this.document, this.color.getRed(), this.color.getGreen(), this.color.getBlue());
         }
     }
 
@@ -650,8 +716,9 @@ public class RtfFont extends Font implements RtfExtendedElement {
     @Override
     public void setColor(Color color) {
         super.setColor(color);
+        this.fontBytes = null;
         if (color != null) {
-            this.color = new RtfColor(document, color);
+            this.color = RtfColor.getInstance(document, color);
         } else {
             this.color = null;
         }
@@ -663,7 +730,8 @@ public class RtfFont extends Font implements RtfExtendedElement {
     @Override
     public void setColor(int red, int green, int blue) {
         super.setColor(red, green, blue);
-        this.color = new RtfColor(document, red, green, blue);
+        this.color = RtfColor.getInstance(document, red, green, blue);
+        this.fontBytes = null;
     }
 
     /**
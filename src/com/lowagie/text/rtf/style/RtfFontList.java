@@ -56,7 +56,9 @@ import com.lowagie.text.rtf.document.RtfDocument;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The RtfFontList stores the list of fonts used in the rtf document. It also
@@ -86,6 +88,26 @@ public class RtfFontList extends RtfElement implements RtfExtendedElement {
      * The list of fonts
      */
     private final List<RtfFont> fontList = new ArrayList<>();
+    /**
+     * The index of each font in the list of fonts, by font name
+     */
+    private final Map<String, Integer> fontIndexes = new HashMap<>();
+    /**
+     * The number of font number lookups
+     */
+    private long lookupCount = 0;
+    /**
+     * The number of font number lookups that found an existing font
+     */
+    private long hitCount = 0;
+    /**
+     * Whether the font table has already been written and no more fonts can be added
+     */
+    private boolean locked = false;
+    /**
+     * The begin and end bytes of the fonts used in the document, by their packed attributes
+     */
+    private final Map<Long, byte[][]> fontBytes = new HashMap<>();
 
     /**
      * Creates a RtfFontList
@@ -94,7 +116,7 @@ public class RtfFontList extends RtfElement implements RtfExtendedElement {
      */
     public RtfFontList(RtfDocument doc) {
         super(doc);
-        fontList.add(new RtfFont(document, 0));
+        addFont(new RtfFont(document, 0));
     }
 
     /**
@@ -111,36 +133,97 @@ public class RtfFontList extends RtfElement implements RtfExtendedElement {
      * @param font The font to get the id for
      * @return The index of the font
      */
-    public int getFontNumber(RtfFont font) {
+    public synchronized int getFontNumber(RtfFont font) {
+        lookupCount++;
+        Integer fontIndex = fontIndexes.get(font.getFontName());
+        if (fontIndex != null) {
+            hitCount++;
+            return fontIndex.intValue();
+        }
         if (font instanceof RtfParagraphStyle) {
-            font = new RtfFont(this.document, font);
+            // the plain copy of the style font registers itself
+            return new RtfFont(this.document, font).getFontNumber();
         }
-        int fontIndex = -1;
-        for (int i = 0; i < fontList.size(); i++) {
-            if (fontList.get(i).equals(font)) {
-                fontIndex = i;
-            }
+        if (locked) {
+            this.document.getDocumentSettings().getLogger().warn("Font " + font.getFontName() + " was not declared before the font table was written, using the default font.");
+            // later lookups of the font use the default font without warning again
+            fontIndexes.put(font.getFontName(), 0);
+            return 0;
         }
-        if (fontIndex == -1) {
-            fontIndex = fontList.size();
-            fontList.add(font);
+        return addFont(font);
+    }
+
+    /**
+     * Adds the font to the end of the list of fonts.
+     *
+     * @param font The font to add
+     * @return The index of the font
+     */
+    private int addFont(RtfFont font) {
+        int fontIndex = fontList.size();
+        fontList.add(font);
+        // fonts without a name never equal any other font, so they are not indexed
+        if (font.getFontName() != null) {
+            fontIndexes.put(font.getFontName(), fontIndex);
         }
         return fontIndex;
     }
 
+    /**
+     * Gets the shared begin and end bytes of fonts with the given packed attributes.
+     *
+     * @param key  The packed font number, size, style and color number
+     * @param font A font with these attributes, used to compute the bytes the first time
+     * @return The begin and end bytes
+     */
+    synchronized byte[][] getFontBytes(long key, RtfFont font) throws IOException {
+        byte[][] bytes = fontBytes.get(key);
+        if (bytes == null) {
+            bytes = font.computeBytes();
+            fontBytes.put(key, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the number of font number lookups done so far.
+     *
+     * @return The number of lookups
+     */
+    public synchronized long getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * Gets the number of font number lookups that found an already registered font.
+     *
+     * @return The number of lookups that did not add a new font
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Locks the font list. Fonts that are not in the list yet are mapped to the default font
+     * from now on, with one warning per font. Used when the document is streamed and the font table has already been written.
+     */
+    public synchronized void lock() {
+        this.locked = true;
+    }
+
     /**
      * Writes the definition of the font list
      */
     @Override
-    public void writeDefinition(OutputStream result) throws IOException {
+    public synchronized void writeDefinition(OutputStream result) throws IOException {
         result.write(DEFAULT_FONT);
-        result.write(intToByteArray(0));
+        writeInt(result, 0);
         result.write(OPEN_GROUP);
         result.write(FONT_TABLE);
         for (int i = 0; i < fontList.size(); i++) {
             result.write(OPEN_GROUP);
             result.write(FONT_NUMBER);
-            result.write(intToByteArray(i));
+            writeInt(result, i);
             RtfFont rf = fontList.get(i);
             rf.writeDefinition(result);
             result.write(COMMA_DELIMITER);
@@ -50,16 +50,18 @@ package com.lowagie.text.rtf.style;
 
 import com.lowagie.text.DocWriter;
 import com.lowagie.text.Element;
+import com.lowagie.text.ExceptionConverter;
 import com.lowagie.text.Font;
 import com.lowagie.text.rtf.RtfBasicElement;
 import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
 import com.lowagie.text.rtf.text.RtfParagraph;
 
 import java.awt.Color;
 import java.io.IOException;
 import java.io.OutputStream;
 
-import static com.lowagie.text.rtf.RtfElement.intToByteArray;
+import static com.lowagie.text.rtf.RtfElement.writeInt;
 
 /**
  * The RtfParagraphStyle stores all style/formatting attributes of a RtfParagraph.
@@ -259,6 +261,10 @@ public class RtfParagraphStyle extends RtfFont {
      * The number of this RtfParagraphStyle in the stylesheet list.
      */
     private int styleNumber = -1;
+    /**
+     * The precomputed output of writeBegin if this is a shared paragraph format, null otherwise.
+     */
+    private byte[] formatBytes = null;
 
     /**
      * Constructs a new RtfParagraphStyle with the given attributes.
@@ -349,6 +355,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param alignment The alignment to use.
      */
     public void setAlignment(int alignment) {
+        checkNotShared();
         this.modified |= MODIFIED_ALIGNMENT;
         this.alignment = alignment;
     }
@@ -369,6 +376,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param firstLineIndent The first line indentation to use.
      */
     public void setFirstLineIndent(int firstLineIndent) {
+        checkNotShared();
         this.firstLineIndent = firstLineIndent;
     }
 
@@ -387,6 +395,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param indentLeft The left indentation to use.
      */
     public void setIndentLeft(int indentLeft) {
+        checkNotShared();
         this.modified |= MODIFIED_INDENT_LEFT;
         this.indentLeft = indentLeft;
     }
@@ -406,6 +415,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param indentRight The right indentation to use.
      */
     public void setIndentRight(int indentRight) {
+        checkNotShared();
         this.modified |= MODIFIED_INDENT_RIGHT;
         this.indentRight = indentRight;
     }
@@ -425,6 +435,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param spacingBefore The space before to use.
      */
     public void setSpacingBefore(int spacingBefore) {
+        checkNotShared();
         this.modified |= MODIFIED_SPACING_BEFORE;
         this.spacingBefore = spacingBefore;
     }
@@ -444,6 +455,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param spacingAfter The space after to use.
      */
     public void setSpacingAfter(int spacingAfter) {
+        checkNotShared();
         this.modified |= MODIFIED_SPACING_AFTER;
         this.spacingAfter = spacingAfter;
     }
@@ -507,6 +519,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param lineLeading The line leading to use.
      */
     public void setLineLeading(int lineLeading) {
+        checkNotShared();
         this.lineLeading = lineLeading;
         this.modified |= MODIFIED_LINE_LEADING;
     }
@@ -528,6 +541,7 @@ public class RtfParagraphStyle extends RtfFont {
      * @param keepTogether Whether the lines in the paragraph should be kept together.
      */
     public void setKeepTogether(boolean keepTogether) {
+        checkNotShared();
         this.keepTogether = keepTogether;
         this.modified |= MODIFIED_KEEP_TOGETHER;
     }
@@ -549,10 +563,38 @@ public class RtfParagraphStyle extends RtfFont {
      * @param keepTogetherWithNext Whether the paragraph should be kept together with the next.
      */
     public void setKeepTogetherWithNext(boolean keepTogetherWithNext) {
+        checkNotShared();
         this.keepTogetherWithNext = keepTogetherWithNext;
         this.modified |= MODIFIED_KEEP_TOGETHER_WITH_NEXT;
     }
 
+    /**
+     * Makes this RtfParagraphStyle a shared paragraph format. Its settings cannot be
+     * modified anymore, and the output of writeBegin is computed once.
+     */
+    void share() {
+        try (RtfByteArrayBuffer bab = new RtfByteArrayBuffer()) {
+            writeBegin(bab);
+            this.formatBytes = bab.toByteArray();
+        } catch (IOException ioe) {
+            throw new ExceptionConverter(ioe);
+        }
+    }
+
+    /**
+     * Gets whether this RtfParagraphStyle is a shared paragraph format that cannot be modified.
+     *
+     * @return Whether this RtfParagraphStyle is shared.
+     */
+    public boolean isShared() {
+        return this.formatBytes != null;
+    }
+
+    private void checkNotShared() {
+        if (this.formatBytes != null)
+            throw new IllegalStateException("Shared paragraph formats cannot be modified.");
+    }
+
     /**
      * Handles the inheritance of paragraph style settings. All settings that
      * have not been modified will be inherited from the base RtfParagraphStyle.
@@ -630,22 +672,22 @@ public class RtfParagraphStyle extends RtfFont {
             break;
         }
         result.write(FIRST_LINE_INDENT);
-        result.write(intToByteArray(this.firstLineIndent));
+        writeInt(result, this.firstLineIndent);
         result.write(INDENT_LEFT);
-        result.write(intToByteArray(indentLeft));
+        writeInt(result, indentLeft);
         result.write(INDENT_RIGHT);
-        result.write(intToByteArray(indentRight));
+        writeInt(result, indentRight);
         if (this.spacingBefore > 0) {
             result.write(SPACING_BEFORE);
-            result.write(intToByteArray(this.spacingBefore));
+            writeInt(result, this.spacingBefore);
         }
         if (this.spacingAfter > 0) {
             result.write(SPACING_AFTER);
-            result.write(intToByteArray(this.spacingAfter));
+            writeInt(result, this.spacingAfter);
         }
         if (this.lineLeading > 0) {
             result.write(RtfParagraph.LINE_SPACING);
-            result.write(intToByteArray(this.lineLeading));
+            writeInt(result, this.lineLeading);
         }
     }
 
@@ -657,7 +699,7 @@ public class RtfParagraphStyle extends RtfFont {
         result.write(DocWriter.getISOBytes("{"));
         result.write(DocWriter.getISOBytes("\\style"));
         result.write(DocWriter.getISOBytes("\\s"));
-        result.write(intToByteArray(this.styleNumber));
+        writeInt(result, this.styleNumber);
         result.write(RtfBasicElement.DELIMITER);
         writeParagraphSettings(result);
         super.writeBegin(result);
@@ -676,8 +718,12 @@ public class RtfParagraphStyle extends RtfFont {
      */
     @Override
     public void writeBegin(OutputStream result) throws IOException {
+        if (this.formatBytes != null) {
+            result.write(this.formatBytes);
+            return;
+        }
         result.write(DocWriter.getISOBytes("\\s"));
-        result.write(intToByteArray(this.styleNumber));
+        writeInt(result, this.styleNumber);
         writeParagraphSettings(result);
     }
 
@@ -76,6 +76,76 @@ public class RtfStylesheetList extends RtfElement implements RtfExtendedElement
      * Whether the default settings have been loaded.
      */
     private boolean defaultsLoaded = false;
+    /**
+     * The shared paragraph formats of paragraphs without a named style.
+     */
+    private final Map<ParagraphFormat, RtfParagraphStyle> paragraphFormats = new HashMap<>();
+    /**
+     * The number of paragraph format lookups.
+     */
+    private long paragraphFormatLookupCount = 0;
+    /**
+     * Whether the stylesheet has already been written and no more styles can be registered
+     */
+    private boolean locked = false;
+
+    /**
+     * The settings that identify a shared paragraph format.
+     */
+    private static final class ParagraphFormat {
+
+        final RtfParagraphStyle baseStyle;
+        final int alignment;
+        final int firstLineIndent;
+        final int indentLeft;
+        final int indentRight;
+        final int spacingBefore;
+        final int spacingAfter;
+        final int lineLeading;
+        final boolean keepTogether;
+        final boolean keepTogetherWithNext;
+
+        ParagraphFormat(RtfParagraphStyle baseStyle, int alignment, int firstLineIndent, int indentLeft, int indentRight,
+                        int spacingBefore, int spacingAfter, int lineLeading, boolean keepTogether, boolean keepTogetherWithNext) {
+            this.baseStyle = baseStyle;
+            this.alignment = alignment;
+            this.firstLineIndent = firstLineIndent;
+            this.indentLeft = indentLeft;
+            this.indentRight = indentRight;
+            this.spacingBefore = spacingBefore;
+            this.spacingAfter = spacingAfter;
+            this.lineLeading = lineLeading;
+            this.keepTogether = keepTogether;
+            this.keepTogetherWithNext = keepTogetherWithNext;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ParagraphFormat))
+                return false;
+            ParagraphFormat that = (ParagraphFormat) o;
+            return this.baseStyle == that.baseStyle && this.alignment == that.alignment
+                   && this.firstLineIndent == that.firstLineIndent && this.indentLeft == that.indentLeft
+                   && this.indentRight == that.indentRight && this.spacingBefore == that.spacingBefore
+                   && this.spacingAfter == that.spacingAfter && this.lineLeading == that.lineLeading
+                   && this.keepTogether == that.keepTogether && this.keepTogetherWithNext == that.keepTogetherWithNext;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = System.identityHashCode(this.baseStyle);
+            h = 31 * h + this.alignment;
+            h = 31 * h + this.firstLineIndent;
+            h = 31 * h + this.indentLeft;
+            h = 31 * h + this.indentRight;
+            h = 31 * h + this.spacingBefore;
+            h = 31 * h + this.spacingAfter;
+            h = 31 * h + this.lineLeading;
+            h = 31 * h + (this.keepTogether ? 1 : 0);
+            h = 31 * h + (this.keepTogetherWithNext ? 1 : 0);
+            return h;
+        }
+    }
 
     /**
      * Constructs a new RtfStylesheetList for the RtfDocument.
@@ -98,7 +168,11 @@ public class RtfStylesheetList extends RtfElement implements RtfExtendedElement
      *
      * @param rtfParagraphStyle The RtfParagraphStyle to add.
      */
-    public void registerParagraphStyle(RtfParagraphStyle rtfParagraphStyle) {
+    public synchronized void registerParagraphStyle(RtfParagraphStyle rtfParagraphStyle) {
+        if (locked) {
+            this.document.getDocumentSettings().getLogger().warn("Paragraph style " + rtfParagraphStyle.getStyleName() + " was registered after the stylesheet was written, using the Normal style.");
+            return;
+        }
         RtfParagraphStyle tempStyle = new RtfParagraphStyle(this.document, rtfParagraphStyle);
         tempStyle.handleInheritance();
         tempStyle.setStyleNumber(this.styleMap.size());
@@ -127,23 +201,86 @@ public class RtfStylesheetList extends RtfElement implements RtfExtendedElement
 
     /**
      * Gets the RtfParagraphStyle with the given name. Makes sure that the defaults
-     * have been loaded.
+     * have been loaded. Once the stylesheet is locked, unknown names get the Normal style.
      *
      * @param styleName The name of the RtfParagraphStyle to get.
      * @return The RtfParagraphStyle with the given name or null.
      */
-    public RtfParagraphStyle getRtfParagraphStyle(String styleName) {
+    public synchronized RtfParagraphStyle getRtfParagraphStyle(String styleName) {
         if (!defaultsLoaded) {
             registerDefaultStyles();
         }
-        return this.styleMap.get(styleName);
+        RtfParagraphStyle style = this.styleMap.get(styleName);
+        if (style == null && locked) {
+            return this.styleMap.get(RtfParagraphStyle.STYLE_NORMAL.getStyleName());
+        }
+        return style;
+    }
+
+    /**
+     * Locks the stylesheet. Styles registered from now on are ignored and paragraphs using
+     * them get the Normal style. Used when the document is streamed and the stylesheet has
+     * already been written.
+     */
+    public synchronized void lock() {
+        this.locked = true;
+    }
+
+    /**
+     * Gets the shared paragraph format that is based on the given RtfParagraphStyle and
+     * uses the given settings. Paragraphs with the same settings share one unmodifiable
+     * RtfParagraphStyle.
+     *
+     * @param baseStyle The registered RtfParagraphStyle the format is based on.
+     * @return The shared RtfParagraphStyle with the given settings.
+     */
+    public synchronized RtfParagraphStyle getParagraphFormat(RtfParagraphStyle baseStyle, int alignment, int firstLineIndent,
+                                                             int indentLeft, int indentRight, int spacingBefore, int spacingAfter,
+                                                             int lineLeading, boolean keepTogether, boolean keepTogetherWithNext) {
+        this.paragraphFormatLookupCount++;
+        ParagraphFormat key = new ParagraphFormat(baseStyle, alignment, firstLineIndent, indentLeft, indentRight,
+                                                  spacingBefore, spacingAfter, lineLeading, keepTogether, keepTogetherWithNext);
+        RtfParagraphStyle format = this.paragraphFormats.get(key);
+        if (format == null) {
+            format = new RtfParagraphStyle(this.document, baseStyle);
+            format.setAlignment(alignment);
+            format.setFirstLineIndent(firstLineIndent);
+            format.setIndentLeft(indentLeft);
+            format.setIndentRight(indentRight);
+            format.setSpacingBefore(spacingBefore);
+            format.setSpacingAfter(spacingAfter);
+            format.setLineLeading(lineLeading);
+            format.setKeepTogether(keepTogether);
+            format.setKeepTogetherWithNext(keepTogetherWithNext);
+            format.share();
+            this.paragraphFormats.put(key, format);
+        }
+        return format;
+    }
+
+    /**
+     * Gets the number of distinct paragraph formats used so far.
+     *
+     * @return The number of shared paragraph formats
+     */
+    public synchronized int getParagraphFormatCount() {
+        return this.paragraphFormats.size();
+    }
+
+    /**
+     * Gets the number of paragraph format lookups done so far.
+     *
+     * @return The number of lookups
+     */
+    public synchronized long getParagraphFormatLookupCount() {
+        return this.paragraphFormatLookupCount;
     }
 
     /**
      * Writes the definition of the stylesheet list.
      */
     @Override
-    public void writeDefinition(OutputStream result) throws IOException {
+    public synchronized void writeDefinition(OutputStream result) throws IOException {
         result.write(DocWriter.getISOBytes("{"));
         result.write(DocWriter.getISOBytes("\\stylesheet"));
         result.write(RtfBasicElement.DELIMITER);
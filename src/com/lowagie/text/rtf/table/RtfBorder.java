@@ -389,7 +389,7 @@ public class RtfBorder extends RtfElement {
         this.borderPosition = border.getBorderPosition();
         this.borderStyle = border.getBorderStyle();
         this.borderWidth = border.getBorderWidth();
-        this.borderColor = new RtfColor(this.document, border.getBorderColor());
+        this.borderColor = RtfColor.getInstance(this.document, border.getBorderColor().getRed(), border.getBorderColor().getGreen(), border.getBorderColor().getBlue());
     }
 
     /**
@@ -412,9 +412,9 @@ public class RtfBorder extends RtfElement {
             this.borderStyle = BORDER_NONE;
         }
         if (borderColor == null) {
-            this.borderColor = new RtfColor(this.document, new Color(0, 0, 0));
+            this.borderColor = RtfColor.getInstance(this.document, 0, 0, 0);
         } else {
-            this.borderColor = new RtfColor(this.document, borderColor);
+            this.borderColor = RtfColor.getInstance(this.document, borderColor);
         }
     }
 
@@ -423,7 +423,7 @@ public class RtfBorder extends RtfElement {
      */
     @Override
     public void writeContent(OutputStream result) throws IOException {
-        if (this.borderStyle == BORDER_NONE || this.borderPosition == NO_BORDER || this.borderWidth == 0) {
+        if (!isWritten()) {
             return;
         }
 
@@ -452,9 +452,9 @@ public class RtfBorder extends RtfElement {
             }
             result.write(writeBorderStyle());
             result.write(BORDER_WIDTH);
-            result.write(intToByteArray(this.borderWidth));
+            writeInt(result, this.borderWidth);
             result.write(BORDER_COLOR_NUMBER);
-            result.write(intToByteArray(this.borderColor.getColorNumber()));
+            writeInt(result, this.borderColor.getColorNumber());
             this.document.outputDebugLinebreak(result);
         } else if (this.borderType == CELL_BORDER) {
             switch (this.borderPosition) {
@@ -475,9 +475,9 @@ public class RtfBorder extends RtfElement {
             }
             result.write(writeBorderStyle());
             result.write(BORDER_WIDTH);
-            result.write(intToByteArray(this.borderWidth));
+            writeInt(result, this.borderWidth);
             result.write(BORDER_COLOR_NUMBER);
-            result.write(intToByteArray(this.borderColor.getColorNumber()));
+            writeInt(result, this.borderColor.getColorNumber());
             this.document.outputDebugLinebreak(result);
         }
     }
@@ -544,6 +544,15 @@ public class RtfBorder extends RtfElement {
         }
     }
 
+    /**
+     * Checks whether this RtfBorder writes any settings.
+     *
+     * @return <code>False</code> if this RtfBorder has no style, position or width
+     */
+    protected boolean isWritten() {
+        return this.borderStyle != BORDER_NONE && this.borderPosition != NO_BORDER && this.borderWidth != 0;
+    }
+
     /**
      * Gets the color of this RtfBorder
      *
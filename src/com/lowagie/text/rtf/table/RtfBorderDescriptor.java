@@ -0,0 +1,88 @@
+package com.lowagie.text.rtf.table;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * The RtfBorderDescriptor is an immutable set of cell borders. It consists of a bitmask
+ * of the borders that are written and the style, width and color number of each of them.
+ * Descriptors are interned by the {@link RtfBorderStore} of the document, so all cells
+ * with the same borders share one descriptor and its serialized <code>\clbrdr</code> bytes.
+ */
+public final class RtfBorderDescriptor {
+
+    /**
+     * The positions of the cell borders, in the order they are written.
+     */
+    static final int[] POSITIONS = {RtfBorder.LEFT_BORDER, RtfBorder.TOP_BORDER, RtfBorder.RIGHT_BORDER, RtfBorder.BOTTOM_BORDER};
+
+    /**
+     * The bitmask of the borders that are written
+     */
+    private final int borders;
+    /**
+     * The packed style, width and color number of each border position
+     */
+    private final long[] settings;
+    /**
+     * The serialized borders, null for a descriptor that is only used as lookup key
+     */
+    private final byte[] bytes;
+
+    /**
+     * Constructs a RtfBorderDescriptor.
+     *
+     * @param borders  The bitmask of the borders that are written
+     * @param settings The packed settings of each border position
+     * @param bytes    The serialized borders
+     */
+    RtfBorderDescriptor(int borders, long[] settings, byte[] bytes) {
+        this.borders = borders;
+        this.settings = settings;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Packs the settings of a border.
+     *
+     * @param border The RtfBorder to pack
+     * @return The packed style, width and color number
+     */
+    static long pack(RtfBorder border) {
+        return ((long) border.getBorderStyle() << 48) | ((long) (border.getBorderWidth() & 0xFFFF) << 32) | (border.getBorderColor().getColorNumber() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the bitmask of the borders that are written.
+     *
+     * @return The bitmask of RtfBorder.LEFT_BORDER, TOP_BORDER, RIGHT_BORDER and BOTTOM_BORDER
+     */
+    public int getBorders() {
+        return this.borders;
+    }
+
+    /**
+     * Writes the serialized borders.
+     *
+     * @param result The OutputStream to write to
+     */
+    void writeContent(OutputStream result) throws IOException {
+        result.write(this.bytes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof RtfBorderDescriptor))
+            return false;
+        RtfBorderDescriptor that = (RtfBorderDescriptor) obj;
+        return this.borders == that.borders && Arrays.equals(this.settings, that.settings);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.borders + Arrays.hashCode(this.settings);
+    }
+}
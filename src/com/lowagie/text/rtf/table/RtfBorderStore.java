@@ -0,0 +1,164 @@
+package com.lowagie.text.rtf.table;
+
+import com.lowagie.text.ExceptionConverter;
+import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The RtfBorderStore keeps one {@link RtfBorderDescriptor} for every distinct set of
+ * cell borders in a document. Cells with the same borders share the descriptor.
+ */
+public class RtfBorderStore {
+
+    private static final class CellBorderKey {
+
+        final int borders;
+        final float borderWidth;
+        final Color borderColor;
+
+        CellBorderKey(int borders, float borderWidth, Color borderColor) {
+            this.borders = borders;
+            this.borderWidth = borderWidth;
+            this.borderColor = borderColor;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CellBorderKey))
+                return false;
+            CellBorderKey that = (CellBorderKey) obj;
+            return this.borders == that.borders && Float.floatToIntBits(this.borderWidth) == Float.floatToIntBits(that.borderWidth)
+                && (this.borderColor == null ? that.borderColor == null : this.borderColor.equals(that.borderColor));
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * this.borders + Float.floatToIntBits(this.borderWidth);
+            return 31 * hash + (this.borderColor == null ? 0 : this.borderColor.hashCode());
+        }
+    }
+
+    /**
+     * The RtfDocument the borders are written to
+     */
+    private final RtfDocument document;
+    /**
+     * The distinct border descriptors
+     */
+    private final Map<RtfBorderDescriptor, RtfBorderDescriptor> descriptors = new HashMap<>();
+    /**
+     * The border descriptors of the cell border settings looked up so far
+     */
+    private final Map<CellBorderKey, RtfBorderDescriptor> cellBorders = new HashMap<>();
+    /**
+     * The number of border descriptors looked up
+     */
+    private long lookupCount = 0;
+    /**
+     * The number of lookups that found an existing border descriptor
+     */
+    private long hitCount = 0;
+
+    /**
+     * Constructs a RtfBorderStore.
+     *
+     * @param doc The RtfDocument the borders are written to
+     */
+    public RtfBorderStore(RtfDocument doc) {
+        this.document = doc;
+    }
+
+    /**
+     * Gets the border descriptor for cell borders with one width and color.
+     *
+     * @param bordersToUse The borders to use (Rectangle.LEFT, Rectangle.RIGHT, Rectangle.TOP, Rectangle.BOTTOM, Rectangle.BOX)
+     * @param borderWidth  The border width to use
+     * @param borderColor  The border color to use
+     * @return The shared border descriptor
+     */
+    public synchronized RtfBorderDescriptor getCellBorders(int bordersToUse, float borderWidth, Color borderColor) {
+        CellBorderKey key = new CellBorderKey(bordersToUse, borderWidth, borderColor);
+        RtfBorderDescriptor descriptor = this.cellBorders.get(key);
+        if (descriptor != null) {
+            lookupCount++;
+            hitCount++;
+            return descriptor;
+        }
+        descriptor = getCellBorders(new RtfBorderGroup(this.document, RtfBorder.CELL_BORDER, bordersToUse, borderWidth, borderColor));
+        this.cellBorders.put(key, descriptor);
+        return descriptor;
+    }
+
+    /**
+     * Gets the border descriptor for the cell borders of a RtfBorderGroup.
+     *
+     * @param borderGroup The RtfBorderGroup to use, can be null
+     * @return The shared border descriptor
+     */
+    public synchronized RtfBorderDescriptor getCellBorders(RtfBorderGroup borderGroup) {
+        lookupCount++;
+        RtfBorder[] cellBorders = new RtfBorder[RtfBorderDescriptor.POSITIONS.length];
+        if (borderGroup != null) {
+            for (RtfBorder border : borderGroup.getBorders().values()) {
+                // the copy registers the border color in the same way as a per cell copy did
+                RtfBorder cellBorder = new RtfBorder(this.document, RtfBorder.CELL_BORDER, border);
+                for (int i = 0; i < cellBorders.length; i++) {
+                    if (cellBorder.getBorderPosition() == RtfBorderDescriptor.POSITIONS[i] && cellBorder.isWritten()) {
+                        cellBorders[i] = cellBorder;
+                    }
+                }
+            }
+        }
+        int borders = 0;
+        long[] settings = new long[cellBorders.length];
+        for (int i = 0; i < cellBorders.length; i++) {
+            if (cellBorders[i] != null) {
+                borders |= RtfBorderDescriptor.POSITIONS[i];
+                settings[i] = RtfBorderDescriptor.pack(cellBorders[i]);
+            }
+        }
+        RtfBorderDescriptor descriptor = this.descriptors.get(new RtfBorderDescriptor(borders, settings, null));
+        if (descriptor != null) {
+            hitCount++;
+            return descriptor;
+        }
+        try (RtfByteArrayBuffer bytes = new RtfByteArrayBuffer()) {
+            for (RtfBorder cellBorder : cellBorders) {
+                if (cellBorder != null) {
+                    cellBorder.writeContent(bytes);
+                }
+            }
+            descriptor = new RtfBorderDescriptor(borders, settings, bytes.toByteArray());
+        } catch (IOException ioe) {
+            throw new ExceptionConverter(ioe);
+        }
+        this.descriptors.put(descriptor, descriptor);
+        return descriptor;
+    }
+
+    /**
+     * Gets the number of distinct border descriptors.
+     */
+    public synchronized int getDescriptorCount() {
+        return this.descriptors.size();
+    }
+
+    /**
+     * Gets the number of border descriptors looked up.
+     */
+    public synchronized long getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * Gets the number of lookups that were answered with an existing border descriptor.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+}
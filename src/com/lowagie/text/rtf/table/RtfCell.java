@@ -61,7 +61,7 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 
-import static com.lowagie.text.rtf.RtfElement.intToByteArray;
+import static com.lowagie.text.rtf.RtfElement.writeInt;
 
 /**
  * The RtfCell wraps a Cell, but can also be added directly to a Table.
@@ -110,6 +110,10 @@ public class RtfCell extends Cell implements RtfExtendedElement {
      * The borders of this RtfCell
      */
     private RtfBorderGroup borders = null;
+    /**
+     * The shared borders of this RtfCell in a RtfDocument
+     */
+    private RtfBorderDescriptor borderDescriptor = null;
 
     /**
      * The background color of this RtfCell
@@ -199,7 +203,7 @@ public class RtfCell extends Cell implements RtfExtendedElement {
         this.content = new ArrayList<>();
 
         if (cell == null) {
-            this.borders = new RtfBorderGroup(this.document, RtfBorder.CELL_BORDER, this.parentRow.getParentTable().getBorders());
+            this.borderDescriptor = this.parentRow.getParentTable().getCellBorders();
             return;
         }
 
@@ -209,15 +213,15 @@ public class RtfCell extends Cell implements RtfExtendedElement {
             this.mergeType = MERGE_VERT_PARENT;
         }
         if (cell instanceof RtfCell) {
-            this.borders = new RtfBorderGroup(this.document, RtfBorder.CELL_BORDER, ((RtfCell) cell).getBorders());
+            this.borderDescriptor = this.document.getBorderStore().getCellBorders(((RtfCell) cell).getBorders());
         } else {
-            this.borders = new RtfBorderGroup(this.document, RtfBorder.CELL_BORDER, cell.getBorder(), cell.getBorderWidth(), cell.getBorderColor());
+            this.borderDescriptor = this.document.getBorderStore().getCellBorders(cell.getBorder(), cell.getBorderWidth(), cell.getBorderColor());
         }
         this.verticalAlignment = cell.getVerticalAlignment();
         if (cell.getBackgroundColor() == null) {
-            this.backgroundColor = new RtfColor(this.document, 255, 255, 255);
+            this.backgroundColor = RtfColor.getInstance(this.document, 255, 255, 255);
         } else {
-            this.backgroundColor = new RtfColor(this.document, cell.getBackgroundColor());
+            this.backgroundColor = RtfColor.getInstance(this.document, cell.getBackgroundColor());
         }
 
         this.cellPadding = (int) this.parentRow.getParentTable().getCellPadding();
@@ -296,11 +300,11 @@ public class RtfCell extends Cell implements RtfExtendedElement {
             result.write(DocWriter.getISOBytes("\\clvertalt"));
             break;
         }
-        this.borders.writeContent(result);
+        this.borderDescriptor.writeContent(result);
 
         if (this.backgroundColor != null) {
             result.write(DocWriter.getISOBytes("\\clcbpat"));
-            result.write(intToByteArray(this.backgroundColor.getColorNumber()));
+            writeInt(result, this.backgroundColor.getColorNumber());
         }
         this.document.outputDebugLinebreak(result);
 
@@ -308,25 +312,62 @@ public class RtfCell extends Cell implements RtfExtendedElement {
         this.document.outputDebugLinebreak(result);
 
         result.write(DocWriter.getISOBytes("\\clwWidth"));
-        result.write(intToByteArray(this.cellWidth));
+        writeInt(result, this.cellWidth);
         this.document.outputDebugLinebreak(result);
 
         if (this.cellPadding > 0) {
             result.write(DocWriter.getISOBytes("\\clpadl"));
-            result.write(intToByteArray(this.cellPadding / 2));
+            writeInt(result, this.cellPadding / 2);
             result.write(DocWriter.getISOBytes("\\clpadt"));
-            result.write(intToByteArray(this.cellPadding / 2));
+            writeInt(result, this.cellPadding / 2);
             result.write(DocWriter.getISOBytes("\\clpadr"));
-            result.write(intToByteArray(this.cellPadding / 2));
+            writeInt(result, this.cellPadding / 2);
             result.write(DocWriter.getISOBytes("\\clpadb"));
-            result.write(intToByteArray(this.cellPadding / 2));
+            writeInt(result, this.cellPadding / 2);
             result.write(DocWriter.getISOBytes("\\clpadfl3"));
             result.write(DocWriter.getISOBytes("\\clpadft3"));
             result.write(DocWriter.getISOBytes("\\clpadfr3"));
             result.write(DocWriter.getISOBytes("\\clpadfb3"));
         }
         result.write(DocWriter.getISOBytes("\\cellx"));
-        result.write(intToByteArray(this.cellRight));
+        writeInt(result, this.cellRight);
+    }
+
+    /**
+     * Checks whether this RtfCell writes the same cell definition as another RtfCell.
+     *
+     * @param other The RtfCell to compare with
+     * @return <code>True</code> if both cells write the same cell definition
+     */
+    protected boolean hasSameDefinition(RtfCell other) {
+        if (this.mergeType != other.mergeType || this.verticalAlignment != other.verticalAlignment
+            || this.cellWidth != other.cellWidth || this.cellRight != other.cellRight || this.cellPadding != other.cellPadding) {
+            return false;
+        }
+        if (this.backgroundColor == null || other.backgroundColor == null) {
+            if (this.backgroundColor != other.backgroundColor) {
+                return false;
+            }
+        } else if (this.backgroundColor.getColorNumber() != other.backgroundColor.getColorNumber()) {
+            return false;
+        }
+        return this.borderDescriptor == other.borderDescriptor;
+    }
+
+    /**
+     * Gets a hash code for the cell definition of this RtfCell, consistent with {@link #hasSameDefinition(RtfCell)}.
+     *
+     * @return The hash code of the cell definition
+     */
+    protected int getDefinitionHashCode() {
+        int hash = this.mergeType;
+        hash = 31 * hash + this.verticalAlignment;
+        hash = 31 * hash + this.cellWidth;
+        hash = 31 * hash + this.cellRight;
+        hash = 31 * hash + this.cellPadding;
+        hash = 31 * hash + (this.backgroundColor == null ? -1 : this.backgroundColor.getColorNumber());
+        hash = 31 * hash + this.borderDescriptor.hashCode();
+        return hash;
     }
 
     /**
@@ -409,6 +450,15 @@ public class RtfCell extends Cell implements RtfExtendedElement {
         return this.borders;
     }
 
+    /**
+     * Gets the shared borders of this RtfCell in a RtfDocument
+     *
+     * @return The border descriptor of this RtfCell
+     */
+    protected RtfBorderDescriptor getBorderDescriptor() {
+        return this.borderDescriptor;
+    }
+
     /**
      * Set the borders of this RtfCell
      *
@@ -437,7 +487,7 @@ public class RtfCell extends Cell implements RtfExtendedElement {
         this.cellWidth = mergeParent.getCellWidth();
         this.cellRight = mergeParent.getCellRight();
         this.cellPadding = mergeParent.getCellpadding();
-        this.borders = mergeParent.getBorders();
+        this.borderDescriptor = mergeParent.getBorderDescriptor();
         this.verticalAlignment = mergeParent.getVerticalAlignment();
         this.backgroundColor = mergeParent.getRtfBackgroundColor();
     }
@@ -0,0 +1,406 @@
+package com.lowagie.text.rtf.table;
+
+import com.lowagie.text.BadElementException;
+import com.lowagie.text.Cell;
+import com.lowagie.text.DocWriter;
+import com.lowagie.text.ExceptionConverter;
+import com.lowagie.text.Font;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Table;
+import com.lowagie.text.rtf.RtfAddableElement;
+import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
+import com.lowagie.text.rtf.style.RtfFont;
+import com.lowagie.text.rtf.text.RtfParagraph;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The RtfDataTable is a table of text values that is written without Cell, Row,
+ * RtfRow and RtfCell objects for every value. The layout of the table is taken
+ * from a format Table: the number of columns, the widths, the borders, the padding
+ * and spacing, the alignment, the fit to page settings and the default cell. The
+ * values are kept by column, and every row can use one of the styles of the table.<br /><br />
+ *
+ * <pre>
+ * Table format = new Table(3);
+ * format.setWidths(new int[] {1, 2, 1});
+ * RtfDataTable table = new RtfDataTable(format);
+ * int bold = table.addStyle(boldFont, Color.LIGHT_GRAY);
+ * table.addRow(bold, "Id", "Name", "Amount");
+ * table.startRow();
+ * table.addValue(1).addValue("Smith").addValue(12.5);
+ * document.add(table);
+ * </pre>
+ *
+ * The RTF written is the same as for the format Table when every value is added with
+ * <code>addCell(new Phrase(value, font))</code>, with the background color of the row
+ * style and the horizontal alignment of the column set on the default cell. Rows must
+ * be added before the RtfDataTable is added to the document. The format Table is used
+ * to compute the RTF of the rows, so it must not contain cells or be used otherwise.
+ */
+public class RtfDataTable extends RtfAddableElement {
+
+    /**
+     * Constant for the end of a row
+     */
+    private static final byte[] ROW_END = DocWriter.getISOBytes("\\row");
+
+    /**
+     * The layout of this RtfDataTable
+     */
+    private final Table format;
+    /**
+     * The number of columns
+     */
+    private final int columns;
+    /**
+     * The horizontal alignment of each column
+     */
+    private final int[] columnAlignments;
+    /**
+     * The font of each style, null for the default font
+     */
+    private final List<Font> styleFonts = new ArrayList<>();
+    /**
+     * The background color of each style
+     */
+    private final List<Color> styleBackgrounds = new ArrayList<>();
+    /**
+     * The values of each column
+     */
+    private final String[][] values;
+    /**
+     * The style of each row
+     */
+    private int[] rowStyles = new int[16];
+    /**
+     * The number of rows
+     */
+    private int rowCount = 0;
+    /**
+     * The number of values in the last row
+     */
+    private int valueCount = 0;
+    /**
+     * The number of rows at the start of the table that are repeated on every page
+     */
+    private int headerRows = 0;
+    /**
+     * The RTF of the rows of each style, computed for the RtfDocument
+     */
+    private RowFormat[] rowFormats = null;
+
+    /**
+     * The RTF of the rows that use one style.
+     */
+    private static final class RowFormat {
+
+        /**
+         * The row definition of header rows
+         */
+        byte[] headerDefinition;
+        /**
+         * The row definition of the other rows
+         */
+        byte[] definition;
+        /**
+         * The RTF of each cell before the value
+         */
+        byte[][] cellStart;
+        /**
+         * The RTF of each cell after the value
+         */
+        byte[][] cellEnd;
+        /**
+         * The RTF of each cell with an empty value
+         */
+        byte[][] emptyCell;
+    }
+
+    /**
+     * Constructs a RtfDataTable with the layout of a Table.
+     *
+     * @param format The Table that defines the layout. Its cells are discarded.
+     */
+    public RtfDataTable(Table format) {
+        this.format = format;
+        this.columns = format.getColumns();
+        this.columnAlignments = new int[this.columns];
+        Arrays.fill(this.columnAlignments, format.getDefaultCell().getHorizontalAlignment());
+        this.values = new String[this.columns][16];
+        addStyle(null, format.getDefaultCell().getBackgroundColor());
+    }
+
+    /**
+     * Sets the horizontal alignment of the values of a column.
+     *
+     * @param column    The column index
+     * @param alignment The alignment, one of the Element.ALIGN_ constants
+     */
+    public void setColumnAlignment(int column, int alignment) {
+        this.columnAlignments[column] = alignment;
+    }
+
+    /**
+     * Adds a row style. Style 0 uses the default font and the background color of
+     * the default cell of the format Table.
+     *
+     * @param font            The font of the values, null for the default font
+     * @param backgroundColor The background color of the cells, null for none
+     * @return The index of the style
+     */
+    public int addStyle(Font font, Color backgroundColor) {
+        this.styleFonts.add(font);
+        this.styleBackgrounds.add(backgroundColor);
+        return this.styleFonts.size() - 1;
+    }
+
+    /**
+     * Sets the number of rows at the start of the table that are repeated on every page.
+     *
+     * @param headerRows The number of header rows
+     */
+    public void setHeaderRows(int headerRows) {
+        this.headerRows = headerRows;
+    }
+
+    /**
+     * Gets the number of rows of this RtfDataTable.
+     *
+     * @return The number of rows
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Adds a row with style 0. Missing values are empty.
+     *
+     * @param values The values of the row
+     */
+    public void addRow(String... values) {
+        addRow(0, values);
+    }
+
+    /**
+     * Adds a row. Missing values are empty.
+     *
+     * @param style  The style of the row
+     * @param values The values of the row
+     */
+    public void addRow(int style, String... values) {
+        if (values.length > this.columns)
+            throw new IllegalArgumentException("Table has " + this.columns + " columns, " + values.length + " values given");
+        startRow(style);
+        for (String value : values) {
+            addValue(value);
+        }
+    }
+
+    /**
+     * Starts a new row with style 0. The values are added with the addValue methods.
+     */
+    public void startRow() {
+        startRow(0);
+    }
+
+    /**
+     * Starts a new row. The values are added with the addValue methods, missing values are empty.
+     *
+     * @param style The style of the row
+     */
+    public void startRow(int style) {
+        if (style < 0 || style >= this.styleFonts.size())
+            throw new IllegalArgumentException("Unknown style: " + style);
+        if (this.rowCount == this.rowStyles.length) {
+            int capacity = this.rowCount * 2;
+            this.rowStyles = Arrays.copyOf(this.rowStyles, capacity);
+            for (int i = 0; i < this.columns; i++) {
+                this.values[i] = Arrays.copyOf(this.values[i], capacity);
+            }
+        }
+        this.rowStyles[this.rowCount++] = style;
+        this.valueCount = 0;
+    }
+
+    /**
+     * Adds the next value of the current row.
+     *
+     * @param value The value, null for an empty value
+     * @return This RtfDataTable
+     */
+    public RtfDataTable addValue(String value) {
+        if (this.rowCount == 0 || this.valueCount == this.columns)
+            throw new IllegalStateException("No row started or the row is complete.");
+        this.values[this.valueCount++][this.rowCount - 1] = value;
+        return this;
+    }
+
+    /**
+     * Adds the next value of the current row.
+     *
+     * @param value The value
+     * @return This RtfDataTable
+     */
+    public RtfDataTable addValue(long value) {
+        return addValue(String.valueOf(value));
+    }
+
+    /**
+     * Adds the next value of the current row.
+     *
+     * @param value The value
+     * @return This RtfDataTable
+     */
+    public RtfDataTable addValue(double value) {
+        return addValue(String.valueOf(value));
+    }
+
+    /**
+     * Sets the RtfDocument this RtfDataTable belongs to and computes the RTF of the
+     * rows for it. The styles are prepared in the order they are first used, so fonts
+     * and colors are registered in the same order as for the format Table.
+     */
+    @Override
+    public void setRtfDocument(RtfDocument doc) {
+        super.setRtfDocument(doc);
+        this.rowFormats = new RowFormat[this.styleFonts.size()];
+        for (int i = 0; i < this.rowCount; i++) {
+            int style = this.rowStyles[i];
+            if (this.rowFormats[style] == null) {
+                this.rowFormats[style] = computeRowFormat(style);
+            }
+        }
+    }
+
+    /**
+     * Computes the RTF of the rows of a style by converting a header row and three
+     * rows of the format Table: two rows with the one letter values "a" and "b" and
+     * one row with empty values. The RTF of the two letter rows only differs at the
+     * value, which splits the cells into the parts before and after the value.
+     */
+    private RowFormat computeRowFormat(int style) {
+        RtfTable prototype;
+        try {
+            this.format.deleteAllRows();
+            addPrototypeRow(style, "a");
+            this.format.endHeaders();
+            addPrototypeRow(style, "a");
+            addPrototypeRow(style, "b");
+            addPrototypeRow(style, "");
+            prototype = new RtfTable(this.doc, this.format);
+        } finally {
+            this.format.deleteAllRows();
+        }
+        List<RtfRow> rows = prototype.getRows();
+        RowFormat rowFormat = new RowFormat();
+        rowFormat.cellStart = new byte[this.columns][];
+        rowFormat.cellEnd = new byte[this.columns][];
+        rowFormat.emptyCell = new byte[this.columns][];
+        try {
+            rowFormat.headerDefinition = rows.get(0).computeRowDefinition();
+            rowFormat.definition = rows.get(1).computeRowDefinition();
+            for (int i = 0; i < this.columns; i++) {
+                byte[] a = cellContent(rows.get(1).getCells().get(i));
+                byte[] b = cellContent(rows.get(2).getCells().get(i));
+                int pos = 0;
+                while (pos < a.length && a[pos] == b[pos]) {
+                    pos++;
+                }
+                if (a.length != b.length || pos == a.length || !Arrays.equals(Arrays.copyOfRange(a, pos + 1, a.length), Arrays.copyOfRange(b, pos + 1, b.length)))
+                    throw new IllegalStateException("The cell value could not be located.");
+                rowFormat.cellStart[i] = Arrays.copyOf(a, pos);
+                rowFormat.cellEnd[i] = Arrays.copyOfRange(a, pos + 1, a.length);
+                rowFormat.emptyCell[i] = cellContent(rows.get(3).getCells().get(i));
+            }
+        } catch (IOException ioe) {
+            throw new ExceptionConverter(ioe);
+        }
+        return rowFormat;
+    }
+
+    /**
+     * Adds a row with the same value in all columns to the format Table, in the same
+     * way as Table.addCell(Phrase) does.
+     */
+    private void addPrototypeRow(int style, String value) {
+        Font font = this.styleFonts.get(style);
+        Cell defaultCell = this.format.getDefaultCell();
+        for (int i = 0; i < this.columns; i++) {
+            Cell cell;
+            try {
+                cell = new Cell(font == null ? new Phrase(value) : new Phrase(value, font));
+            } catch (BadElementException bee) {
+                throw new ExceptionConverter(bee);
+            }
+            cell.setBorder(defaultCell.getBorder());
+            cell.setBorderWidth(defaultCell.getBorderWidth());
+            cell.setBorderColor(defaultCell.getBorderColor());
+            cell.setBackgroundColor(this.styleBackgrounds.get(style));
+            cell.setHorizontalAlignment(this.columnAlignments[i]);
+            cell.setVerticalAlignment(defaultCell.getVerticalAlignment());
+            this.format.addCell(cell);
+        }
+    }
+
+    private static byte[] cellContent(RtfCell cell) throws IOException {
+        try (RtfByteArrayBuffer bab = new RtfByteArrayBuffer()) {
+            cell.writeContent(bab);
+            return bab.toByteArray();
+        }
+    }
+
+    /**
+     * Writes the rows of this RtfDataTable.
+     */
+    @Override
+    public void writeContent(OutputStream result) throws IOException {
+        if (!this.inHeader && Float.isNaN(this.format.getOffset())) {
+            result.write(RtfParagraph.PARAGRAPH);
+        } else if (!this.inHeader && this.format.getOffset() >= 0) {
+            result.write(RtfFont.FONT_SIZE);
+            writeInt(result, (int) (this.format.getOffset() * 2));
+            result.write(RtfParagraph.PARAGRAPH);
+        }
+
+        boolean definitionAfter = this.doc.getDocumentSettings().isOutputTableRowDefinitionAfter();
+        boolean softLineBreaks = this.doc.getDocumentSettings().isAlwaysGenerateSoftLinebreaks();
+        for (int row = 0; row < this.rowCount; row++) {
+            RowFormat rowFormat = this.rowFormats[this.rowStyles[row]];
+            byte[] definition = row < this.headerRows ? rowFormat.headerDefinition : rowFormat.definition;
+            write(result, definition);
+            for (int i = 0; i < this.columns; i++) {
+                String value = this.values[i][row];
+                if (value == null || value.isEmpty()) {
+                    write(result, rowFormat.emptyCell[i]);
+                } else {
+                    write(result, rowFormat.cellStart[i]);
+                    this.doc.filterSpecialChar(result, value, false, softLineBreaks);
+                    write(result, rowFormat.cellEnd[i]);
+                }
+            }
+            result.write(DELIMITER);
+            if (definitionAfter) {
+                write(result, definition);
+            }
+            result.write(ROW_END);
+            this.doc.outputDebugLinebreak(result);
+        }
+
+        result.write(RtfParagraph.PARAGRAPH_DEFAULTS);
+    }
+
+    private static void write(OutputStream out, byte[] bytes) throws IOException {
+        if (out instanceof RtfByteArrayBuffer) {
+            ((RtfByteArrayBuffer) out).append(bytes);
+        } else {
+            out.write(bytes);
+        }
+    }
+}
@@ -54,6 +54,7 @@ import com.lowagie.text.Element;
 import com.lowagie.text.Row;
 import com.lowagie.text.rtf.RtfElement;
 import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.output.RtfByteArrayBuffer;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -181,6 +182,10 @@ public class RtfRow extends RtfElement {
      * The row number
      */
     private final int rowNumber;
+    /**
+     * The serialized row definition, shared with the rows of the table that have the same definition
+     */
+    private byte[] definition = null;
 
     /**
      * Constructs a RtfRow for a Row.
@@ -204,18 +209,13 @@ public class RtfRow extends RtfElement {
      */
     private void importRow(Row row) {
         this.cells = new ArrayList<>();
-        this.width = this.document.getDocumentHeader().getPageSetting().getPageWidth() - this.document.getDocumentHeader().getPageSetting().getMarginLeft() - this.document.getDocumentHeader().getPageSetting().getMarginRight();
-        this.width = (int) (this.width * this.parentTable.getTableWidthPercent() / 100);
+        this.width = this.parentTable.getRowWidth();
 
-        int cellRight = 0;
         for (int i = 0; i < row.getColumns(); i++) {
-            int cellWidth = (int) (this.width * this.parentTable.getProportionalWidths()[i] / 100);
-            cellRight += cellWidth;
-
             Cell cell = (Cell) row.getCell(i);
             RtfCell rtfCell = new RtfCell(this.document, this, cell);
-            rtfCell.setCellRight(cellRight);
-            rtfCell.setCellWidth(cellWidth);
+            rtfCell.setCellRight(this.parentTable.getColumnRight(i));
+            rtfCell.setCellWidth(this.parentTable.getColumnWidth(i));
             this.cells.add(rtfCell);
         }
     }
@@ -274,70 +274,124 @@ public class RtfRow extends RtfElement {
     }
 
     /**
-     * Writes the row definition/settings.
+     * Writes the row definition/settings. Rows of the table with the same definition
+     * share the serialized bytes, so the definition is only built once.
      *
      * @param result The <code>OutputStream</code> to write the definitions to.
      */
     private void writeRowDefinition(OutputStream result) throws IOException {
-        result.write(ROW_BEGIN);
-        this.document.outputDebugLinebreak(result);
-        result.write(ROW_WIDTH_STYLE);
-        result.write(ROW_WIDTH);
-        result.write(intToByteArray(this.width));
-        if (this.parentTable.getCellsFitToPage()) {
-            result.write(ROW_KEEP_TOGETHER);
-        }
-        if (this.rowNumber <= this.parentTable.getHeaderRows()) {
-            result.write(ROW_HEADER_ROW);
-        }
-        switch (this.parentTable.getAlignment()) {
-        case Element.ALIGN_LEFT:
-            result.write(ROW_ALIGN_LEFT);
-            break;
-        case Element.ALIGN_RIGHT:
-            result.write(ROW_ALIGN_RIGHT);
-            break;
-        case Element.ALIGN_CENTER:
-            result.write(ROW_ALIGN_CENTER);
-            break;
-        case Element.ALIGN_JUSTIFIED:
-        case Element.ALIGN_JUSTIFIED_ALL:
-            result.write(ROW_ALIGN_JUSTIFIED);
-            break;
-        }
-        result.write(ROW_GRAPH);
-        RtfBorderGroup borders = this.parentTable.getBorders();
-        if (borders != null) {
-            borders.writeContent(result);
+        if (this.definition == null) {
+            this.definition = this.parentTable.getRowDefinition(this);
         }
+        result.write(this.definition);
+    }
 
-        if (this.parentTable.getCellSpacing() > 0) {
-            result.write(ROW_CELL_SPACING_LEFT);
-            result.write(intToByteArray((int) (this.parentTable.getCellSpacing() / 2)));
-            result.write(ROW_CELL_SPACING_LEFT_STYLE);
-            result.write(ROW_CELL_SPACING_TOP);
-            result.write(intToByteArray((int) (this.parentTable.getCellSpacing() / 2)));
-            result.write(ROW_CELL_SPACING_TOP_STYLE);
-            result.write(ROW_CELL_SPACING_RIGHT);
-            result.write(intToByteArray((int) (this.parentTable.getCellSpacing() / 2)));
-            result.write(ROW_CELL_SPACING_RIGHT_STYLE);
-            result.write(ROW_CELL_SPACING_BOTTOM);
-            result.write(intToByteArray((int) (this.parentTable.getCellSpacing() / 2)));
-            result.write(ROW_CELL_SPACING_BOTTOM_STYLE);
-        }
+    /**
+     * Serializes the row definition/settings.
+     *
+     * @return The bytes of the row definition.
+     */
+    protected byte[] computeRowDefinition() throws IOException {
+        try (RtfByteArrayBuffer result = new RtfByteArrayBuffer()) {
+            result.write(ROW_BEGIN);
+            this.document.outputDebugLinebreak(result);
+            result.write(ROW_WIDTH_STYLE);
+            result.write(ROW_WIDTH);
+            writeInt(result, this.width);
+            if (this.parentTable.getCellsFitToPage()) {
+                result.write(ROW_KEEP_TOGETHER);
+            }
+            if (isHeaderRow()) {
+                result.write(ROW_HEADER_ROW);
+            }
+            switch (this.parentTable.getAlignment()) {
+            case Element.ALIGN_LEFT:
+                result.write(ROW_ALIGN_LEFT);
+                break;
+            case Element.ALIGN_RIGHT:
+                result.write(ROW_ALIGN_RIGHT);
+                break;
+            case Element.ALIGN_CENTER:
+                result.write(ROW_ALIGN_CENTER);
+                break;
+            case Element.ALIGN_JUSTIFIED:
+            case Element.ALIGN_JUSTIFIED_ALL:
+                result.write(ROW_ALIGN_JUSTIFIED);
+                break;
+            }
+            result.write(ROW_GRAPH);
+            RtfBorderGroup borders = this.parentTable.getBorders();
+            if (borders != null) {
+                borders.writeContent(result);
+            }
 
-        result.write(ROW_CELL_PADDING_LEFT);
-        result.write(intToByteArray((int) (this.parentTable.getCellPadding() / 2)));
-        result.write(ROW_CELL_PADDING_RIGHT);
-        result.write(intToByteArray((int) (this.parentTable.getCellPadding() / 2)));
-        result.write(ROW_CELL_PADDING_LEFT_STYLE);
-        result.write(ROW_CELL_PADDING_RIGHT_STYLE);
+            if (this.parentTable.getCellSpacing() > 0) {
+                result.write(ROW_CELL_SPACING_LEFT);
+                writeInt(result, (int) (this.parentTable.getCellSpacing() / 2));
+                result.write(ROW_CELL_SPACING_LEFT_STYLE);
+                result.write(ROW_CELL_SPACING_TOP);
+                writeInt(result, (int) (this.parentTable.getCellSpacing() / 2));
+                result.write(ROW_CELL_SPACING_TOP_STYLE);
+                result.write(ROW_CELL_SPACING_RIGHT);
+                writeInt(result, (int) (this.parentTable.getCellSpacing() / 2));
+                result.write(ROW_CELL_SPACING_RIGHT_STYLE);
+                result.write(ROW_CELL_SPACING_BOTTOM);
+                writeInt(result, (int) (this.parentTable.getCellSpacing() / 2));
+                result.write(ROW_CELL_SPACING_BOTTOM_STYLE);
+            }
 
-        this.document.outputDebugLinebreak(result);
+            result.write(ROW_CELL_PADDING_LEFT);
+            writeInt(result, (int) (this.parentTable.getCellPadding() / 2));
+            result.write(ROW_CELL_PADDING_RIGHT);
+            writeInt(result, (int) (this.parentTable.getCellPadding() / 2));
+            result.write(ROW_CELL_PADDING_LEFT_STYLE);
+            result.write(ROW_CELL_PADDING_RIGHT_STYLE);
+
+            this.document.outputDebugLinebreak(result);
+
+            for (RtfCell rtfCell : this.cells) {
+                rtfCell.writeDefinition(result);
+            }
+            return result.toByteArray();
+        }
+    }
 
+    /**
+     * Checks whether this RtfRow has the same row definition as another row of the table.
+     *
+     * @param other The RtfRow to compare with
+     * @return <code>True</code> if both rows write the same row definition
+     */
+    protected boolean hasSameDefinition(RtfRow other) {
+        if (isHeaderRow() != other.isHeaderRow() || this.cells.size() != other.cells.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.cells.size(); i++) {
+            if (!this.cells.get(i).hasSameDefinition(other.cells.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets a hash code for the row definition of this RtfRow, consistent with {@link #hasSameDefinition(RtfRow)}.
+     *
+     * @return The hash code of the row definition
+     */
+    protected int getDefinitionHashCode() {
+        int hash = isHeaderRow() ? 1 : 0;
         for (RtfCell rtfCell : this.cells) {
-            rtfCell.writeDefinition(result);
+            hash = 31 * hash + rtfCell.getDefinitionHashCode();
         }
+        return hash;
+    }
+
+    /**
+     * Gets whether this RtfRow is a header row of the table
+     */
+    private boolean isHeaderRow() {
+        return this.rowNumber <= this.parentTable.getHeaderRows();
     }
 
     /**
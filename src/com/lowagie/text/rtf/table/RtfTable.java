@@ -53,14 +53,17 @@ import com.lowagie.text.Row;
 import com.lowagie.text.Table;
 import com.lowagie.text.rtf.RtfElement;
 import com.lowagie.text.rtf.document.RtfDocument;
+import com.lowagie.text.rtf.document.RtfPageSetting;
 import com.lowagie.text.rtf.style.RtfFont;
 import com.lowagie.text.rtf.text.RtfParagraph;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The RtfTable wraps a Table.
@@ -86,6 +89,18 @@ public class RtfTable extends RtfElement {
      * An array with the proportional widths of the cells in each row
      */
     private float[] proportionalWidths = null;
+    /**
+     * The width of the rows of this RtfTable
+     */
+    private int rowWidth = 0;
+    /**
+     * The right boundary of each column, shared by all rows
+     */
+    private int[] columnRights = null;
+    /**
+     * The width of each column, shared by all rows
+     */
+    private int[] columnWidths = null;
     /**
      * The cell padding
      */
@@ -99,6 +114,10 @@ public class RtfTable extends RtfElement {
      * The border style of this RtfTable
      */
     private RtfBorderGroup borders = null;
+    /**
+     * The shared cell borders of empty cells, derived from the borders of this RtfTable
+     */
+    private RtfBorderDescriptor cellBorders = null;
     /**
      * The alignment of this RtfTable
      */
@@ -124,8 +143,44 @@ public class RtfTable extends RtfElement {
      */
     private boolean insertParagraph = true;
 
+    /**
+     * Whether this RtfTable continues the rows of a Table that was added incompletely before
+     */
+    private boolean continuation = false;
+    /**
+     * The serialized row definitions of this RtfTable, shared by rows with the same definition
+     */
+    private final Map<RowDefinitionKey, byte[]> rowDefinitions = new HashMap<>();
+
+    /**
+     * Key for the rows with the same row definition.
+     */
+    private static final class RowDefinitionKey {
+
+        private final RtfRow row;
+        private final int hash;
+
+        RowDefinitionKey(RtfRow row) {
+            this.row = row;
+            this.hash = row.getDefinitionHashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof RowDefinitionKey && this.row.hasSameDefinition(((RowDefinitionKey) obj).row);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
     /**
      * Constructs a RtfTable based on a Table for a RtfDocument.
+     * If the Table is not complete, only the rows that are complete are imported.
+     * If parts of the Table have already been added, the rows that have already been
+     * written are skipped and the rows continue the previously written table.
      *
      * @param doc   The RtfDocument this RtfTable belongs to
      * @param table The Table that this RtfTable wraps
@@ -146,22 +201,28 @@ public class RtfTable extends RtfElement {
         this.rows = new ArrayList<>();
         this.tableWidthPercent = table.getWidth();
         this.proportionalWidths = table.getProportionalWidths();
+        computeColumnGeometry();
         this.cellPadding = (float) (table.getPadding() * TWIPS_FACTOR);
         this.cellSpacing = (float) (table.getSpacing() * TWIPS_FACTOR);
         this.borders = new RtfBorderGroup(this.document, RtfBorder.ROW_BORDER, table.getBorder(), table.getBorderWidth(), table.getBorderColor());
         this.alignment = table.getAlignment();
 
-        int i = 0;
+        this.continuation = !table.isNotAddedYet();
+        int firstRow = this.continuation ? table.getWrittenRowCount() : 0;
+        int endRow = Math.max(table.getCompleteRowCount(), firstRow);
         Iterator<Row> rowIterator = table.iterator();
-        while (rowIterator.hasNext()) {
-            this.rows.add(new RtfRow(this.document, this, rowIterator.next(), i));
-            i++;
+        for (int i = 0; i < endRow && rowIterator.hasNext(); i++) {
+            Row row = rowIterator.next();
+            if (i >= firstRow) {
+                this.rows.add(new RtfRow(this.document, this, row, i - firstRow));
+            }
         }
-        for (i = 0; i < this.rows.size(); i++) {
-            this.rows.get(i).handleCellSpanning();
-            this.rows.get(i).cleanRow();
+        for (RtfRow row : this.rows) {
+            row.handleCellSpanning();
+            row.cleanRow();
         }
-        this.headerRows = table.getLastHeaderRow();
+        // header rows that were not complete when the first part was written continue the header
+        this.headerRows = Math.max(table.getLastHeaderRow() - firstRow, -1);
         this.cellsFitToPage = table.isCellsFitPage();
         this.tableFitToPage = table.isTableFitsPage();
         if (!Float.isNaN(table.getOffset())) {
@@ -173,15 +234,53 @@ public class RtfTable extends RtfElement {
         }
     }
 
+    /**
+     * Computes the row width and the column boundaries once for all rows of this RtfTable.
+     */
+    private void computeColumnGeometry() {
+        RtfPageSetting pageSetting = this.document.getDocumentHeader().getPageSetting();
+        int width = pageSetting.getPageWidth() - pageSetting.getMarginLeft() - pageSetting.getMarginRight();
+        this.rowWidth = (int) (width * this.tableWidthPercent / 100);
+
+        this.columnRights = new int[this.proportionalWidths.length];
+        this.columnWidths = new int[this.proportionalWidths.length];
+        int cellRight = 0;
+        for (int i = 0; i < this.proportionalWidths.length; i++) {
+            int cellWidth = (int) (this.rowWidth * this.proportionalWidths[i] / 100);
+            cellRight += cellWidth;
+            this.columnRights[i] = cellRight;
+            this.columnWidths[i] = cellWidth;
+        }
+    }
+
+    /**
+     * Gets the serialized row definition of a row of this RtfTable. Rows with the same
+     * definition share the bytes, which are computed for the first of them.
+     *
+     * @param row The RtfRow to get the definition for
+     * @return The bytes of the row definition
+     */
+    protected byte[] getRowDefinition(RtfRow row) throws IOException {
+        RowDefinitionKey key = new RowDefinitionKey(row);
+        byte[] definition = this.rowDefinitions.get(key);
+        if (definition == null) {
+            definition = row.computeRowDefinition();
+            this.rowDefinitions.put(key, definition);
+        }
+        return definition;
+    }
+
     /**
      * Writes the content of this RtfTable
      */
     @Override
     public void writeContent(OutputStream result) throws IOException {
-        if (!inHeader && insertParagraph) {
+        if (this.continuation && this.rows.isEmpty())
+            return;
+        if (!inHeader && insertParagraph && !this.continuation) {
             if (this.offset != -1) {
                 result.write(RtfFont.FONT_SIZE);
-                result.write(intToByteArray(this.offset));
+                writeInt(result, this.offset);
             }
             result.write(RtfParagraph.PARAGRAPH);
         }
@@ -211,6 +310,18 @@ public class RtfTable extends RtfElement {
         return this.borders;
     }
 
+    /**
+     * Gets the cell borders of the empty cells of this RtfTable
+     *
+     * @return The shared cell borders derived from the borders of this RtfTable.
+     */
+    protected RtfBorderDescriptor getCellBorders() {
+        if (this.cellBorders == null) {
+            this.cellBorders = this.document.getBorderStore().getCellBorders(this.borders);
+        }
+        return this.cellBorders;
+    }
+
     /**
      * Gets the cell padding of this RtfTable
      *
@@ -238,6 +349,35 @@ public class RtfTable extends RtfElement {
         return proportionalWidths.clone();
     }
 
+    /**
+     * Gets the width of the rows of this RtfTable
+     *
+     * @return The row width in twips.
+     */
+    protected int getRowWidth() {
+        return this.rowWidth;
+    }
+
+    /**
+     * Gets the right boundary of a column of this RtfTable
+     *
+     * @param column The column index
+     * @return The right boundary of the column in twips.
+     */
+    protected int getColumnRight(int column) {
+        return this.columnRights[column];
+    }
+
+    /**
+     * Gets the width of a column of this RtfTable
+     *
+     * @param column The column index
+     * @return The width of the column in twips.
+     */
+    protected int getColumnWidth(int column) {
+        return this.columnWidths[column];
+    }
+
     /**
      * Gets the percentage of the page width this RtfTable covers
      *
@@ -87,6 +87,10 @@ public class RtfAnnotation extends RtfElement {
      * The content of this RtfAnnotation
      */
     private final String content;
+    /**
+     * The id of this RtfAnnotation, drawn when it is added so that it does not depend on the order of rendering.
+     */
+    private int annotationId;
 
     /**
      * Constructs a RtfAnnotation based on an Annotation.
@@ -98,6 +102,16 @@ public class RtfAnnotation extends RtfElement {
         super(doc);
         title = annotation.title();
         content = annotation.content();
+        annotationId = doc.getRandomInt();
+    }
+
+    /**
+     * Sets the RtfDocument this RtfAnnotation belongs to and draws a new id from it.
+     */
+    @Override
+    public void setRtfDocument(RtfDocument doc) {
+        super.setRtfDocument(doc);
+        annotationId = doc.getRandomInt();
     }
 
     /**
@@ -108,7 +122,7 @@ public class RtfAnnotation extends RtfElement {
         result.write(OPEN_GROUP);
         result.write(ANNOTATION_ID);
         result.write(DELIMITER);
-        result.write(intToByteArray(document.getRandomInt()));
+        writeInt(result, annotationId);
         result.write(CLOSE_GROUP);
         result.write(OPEN_GROUP);
         result.write(ANNOTATION_AUTHOR);
@@ -66,6 +66,11 @@ import java.io.OutputStream;
  */
 public class RtfChapter extends RtfSection {
 
+    /**
+     * Whether a page break is written before this RtfChapter
+     */
+    private boolean pageBreakBefore = false;
+
     /**
      * Constructs a RtfChapter for a given Chapter
      *
@@ -81,7 +86,7 @@ public class RtfChapter extends RtfSection {
      */
     @Override
     public void writeContent(OutputStream result) throws IOException {
-        if (this.document.getLastElementWritten() != null && !(this.document.getLastElementWritten() instanceof RtfChapter)) {
+        if (this.pageBreakBefore) {
             result.write(DocWriter.getISOBytes("\\page"));
         }
         result.write(DocWriter.getISOBytes("\\sectd"));
@@ -94,4 +99,14 @@ public class RtfChapter extends RtfSection {
         }
         result.write(DocWriter.getISOBytes("\\sect"));
     }
+
+    /**
+     * Sets whether a page break is written before this RtfChapter. The RtfDocument
+     * sets this when the RtfChapter follows an element that is not a RtfChapter.
+     *
+     * @param pageBreakBefore Whether to write a page break before this RtfChapter
+     */
+    public void setPageBreakBefore(boolean pageBreakBefore) {
+        this.pageBreakBefore = pageBreakBefore;
+    }
 }
@@ -124,7 +124,7 @@ public class RtfChunk extends RtfElement {
             this.superSubScript = ((Float) chunk.getAttributes().get(Chunk.SUBSUPSCRIPT)).floatValue();
         }
         if (chunk.getAttributes() != null && chunk.getAttributes().get(Chunk.BACKGROUND) != null) {
-            this.background = new RtfColor(this.document, (Color) ((Object[]) chunk.getAttributes().get(Chunk.BACKGROUND))[0]);
+            this.background = RtfColor.getInstance(this.document, (Color) ((Object[]) chunk.getAttributes().get(Chunk.BACKGROUND))[0]);
         }
         font = new RtfFont(doc, chunk.getFont());
         content = chunk.getContent();
@@ -148,7 +148,7 @@ public class RtfChunk extends RtfElement {
         }
         if (this.background != null) {
             result.write(BACKGROUND_COLOR);
-            result.write(intToByteArray(this.background.getColorNumber()));
+            writeInt(result, this.background.getColorNumber());
         }
         result.write(DELIMITER);
         document.filterSpecialChar(result, content, false, softLineBreaks || this.document.getDocumentSettings().isAlwaysGenerateSoftLinebreaks());
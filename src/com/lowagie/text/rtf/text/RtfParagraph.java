@@ -76,9 +76,14 @@ public class RtfParagraph extends RtfPhrase {
     public static final byte[] PARAGRAPH = DocWriter.getISOBytes("\\par");
 
     /**
-     * An optional RtfParagraphStyle to use for styling.
+     * An optional RtfParagraphStyle to use for styling. Paragraphs without a named
+     * style use a shared paragraph format, which is replaced instead of modified.
      */
-    protected final RtfParagraphStyle paragraphStyle;
+    protected RtfParagraphStyle paragraphStyle;
+    /**
+     * The RtfParagraphStyle the shared paragraph format is based on, null if a named style is used.
+     */
+    private final RtfParagraphStyle formatBase;
 
     /**
      * Constructs a RtfParagraph belonging to a RtfDocument based on a Paragraph.
@@ -92,19 +97,28 @@ public class RtfParagraph extends RtfPhrase {
         if (paragraph.getFont() instanceof RtfParagraphStyle) {
             this.paragraphStyle = this.document.getDocumentHeader().getRtfParagraphStyle(((RtfParagraphStyle) paragraph.getFont()).getStyleName());
             baseFont = this.paragraphStyle;
+            this.formatBase = null;
         } else {
             baseFont = new RtfFont(this.document, paragraph.getFont());
-            this.paragraphStyle = new RtfParagraphStyle(this.document, this.document.getDocumentHeader().getRtfParagraphStyle("Normal"));
-            this.paragraphStyle.setAlignment(paragraph.getAlignment());
-            this.paragraphStyle.setFirstLineIndent((int) (paragraph.getFirstLineIndent() * RtfElement.TWIPS_FACTOR));
-            this.paragraphStyle.setIndentLeft((int) (paragraph.getIndentationLeft() * RtfElement.TWIPS_FACTOR));
-            this.paragraphStyle.setIndentRight((int) (paragraph.getIndentationRight() * RtfElement.TWIPS_FACTOR));
-            this.paragraphStyle.setSpacingBefore((int) (paragraph.getSpacingBefore() * RtfElement.TWIPS_FACTOR));
-            this.paragraphStyle.setSpacingAfter((int) (paragraph.getSpacingAfter() * RtfElement.TWIPS_FACTOR));
+            this.formatBase = this.document.getDocumentHeader().getRtfParagraphStyle("Normal");
+            int lineLeading;
             if (paragraph.hasLeading()) {
-                this.paragraphStyle.setLineLeading((int) (paragraph.getLeading() * RtfElement.TWIPS_FACTOR));
+                lineLeading = (int) (paragraph.getLeading() * RtfElement.TWIPS_FACTOR);
+            } else {
+                lineLeading = (int) (this.formatBase.getLineLeading() * RtfElement.TWIPS_FACTOR);
             }
-            this.paragraphStyle.setKeepTogether(paragraph.getKeepTogether());
+            this.paragraphStyle = this.document.getDocumentHeader().getStylesheetList().getParagraphFormat(
+                this.formatBase,
+                paragraph.getAlignment(),
+                (int) (paragraph.getFirstLineIndent() * RtfElement.TWIPS_FACTOR),
+                (int) (paragraph.getIndentationLeft() * RtfElement.TWIPS_FACTOR),
+                (int) (paragraph.getIndentationRight() * RtfElement.TWIPS_FACTOR),
+                (int) (paragraph.getSpacingBefore() * RtfElement.TWIPS_FACTOR),
+                (int) (paragraph.getSpacingAfter() * RtfElement.TWIPS_FACTOR),
+                lineLeading,
+                paragraph.getKeepTogether(),
+                this.formatBase.getKeepTogetherWithNext()
+            );
         }
         for (int i = 0; i < paragraph.size(); i++) {
             Element chunk = paragraph.get(i);
@@ -128,7 +142,30 @@ public class RtfParagraph extends RtfPhrase {
      * @param keepTogetherWithNext Whether this RtfParagraph must keep together with the next.
      */
     public void setKeepTogetherWithNext(boolean keepTogetherWithNext) {
-        this.paragraphStyle.setKeepTogetherWithNext(keepTogetherWithNext);
+        if (this.formatBase != null) {
+            this.paragraphStyle = getParagraphFormat(getIndentLeft(), getIndentRight(), keepTogetherWithNext);
+        } else {
+            this.paragraphStyle.setKeepTogetherWithNext(keepTogetherWithNext);
+        }
+    }
+
+    /**
+     * Gets the shared paragraph format that differs from the current one in the given settings.
+     */
+    private RtfParagraphStyle getParagraphFormat(int indentLeft, int indentRight, boolean keepTogetherWithNext) {
+        RtfParagraphStyle format = this.paragraphStyle;
+        return this.document.getDocumentHeader().getStylesheetList().getParagraphFormat(
+            this.formatBase,
+            format.getAlignment(),
+            format.getFirstLineIndent(),
+            indentLeft,
+            indentRight,
+            format.getSpacingBefore(),
+            format.getSpacingAfter(),
+            format.getLineLeading(),
+            format.getKeepTogether(),
+            keepTogetherWithNext
+        );
     }
 
     /**
@@ -178,7 +215,11 @@ public class RtfParagraph extends RtfPhrase {
      * @param indentLeft The left indentation to use.
      */
     public void setIndentLeft(int indentLeft) {
-        this.paragraphStyle.setIndentLeft(indentLeft);
+        if (this.formatBase != null) {
+            this.paragraphStyle = getParagraphFormat(indentLeft, getIndentRight(), this.paragraphStyle.getKeepTogetherWithNext());
+        } else {
+            this.paragraphStyle.setIndentLeft(indentLeft);
+        }
     }
 
     /**
@@ -196,6 +237,10 @@ public class RtfParagraph extends RtfPhrase {
      * @param indentRight The right indentation to use.
      */
     public void setIndentRight(int indentRight) {
-        this.paragraphStyle.setIndentRight(indentRight);
+        if (this.formatBase != null) {
+            this.paragraphStyle = getParagraphFormat(getIndentLeft(), indentRight, this.paragraphStyle.getKeepTogetherWithNext());
+        } else {
+            this.paragraphStyle.setIndentRight(indentRight);
+        }
     }
 }
@@ -151,7 +151,7 @@ public class RtfPhrase extends RtfElement {
         }
         if (this.lineLeading > 0) {
             result.write(LINE_SPACING);
-            result.write(intToByteArray(this.lineLeading));
+            writeInt(result, this.lineLeading);
         }
         for (RtfBasicElement rbe : chunks) {
             rbe.writeContent(result);
@@ -146,6 +146,6 @@ public class RtfTab extends RtfAddableElement {
             break;
         }
         result.write(DocWriter.getISOBytes("\\tx"));
-        result.write(intToByteArray(this.position));
+        writeInt(result, this.position);
     }
 }
@@ -3,6 +3,7 @@ module io.github.osobolev.rtf_gen {
     exports com.lowagie.text.factories;
     exports com.lowagie.text.html;
     exports com.lowagie.text.rtf;
+    exports com.lowagie.text.rtf.direct;
 
     requires transitive java.desktop;
 }
@@ -0,0 +1,62 @@
+package com.lowagie.text.rtf;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.rtf.document.output.RtfDataCache;
+import org.junit.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the bytes written directly to the channel of a FileOutputStream are counted.
+ */
+public class RtfWriter2ChannelTest {
+
+    private static void checkCounter(int dataCacheStyle) throws IOException, DocumentException {
+        Path file = Files.createTempFile("rtf", ".rtf");
+        try {
+            Document document = new Document();
+            RtfWriter2 writer = RtfWriter2.getInstance(document, new FileOutputStream(file.toFile()));
+            writer.getDocumentSettings().setDataCacheStyle(dataCacheStyle);
+            document.open();
+            for (int i = 0; i < 1000; i++) {
+                document.add(new Paragraph("Paragraph " + i));
+            }
+            document.close();
+            assertEquals(Files.size(file), writer.getBytesWritten());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testMemoryCache() throws IOException, DocumentException {
+        checkCounter(RtfDataCache.CACHE_MEMORY);
+    }
+
+    @Test
+    public void testEfficientMemoryCache() throws IOException, DocumentException {
+        checkCounter(RtfDataCache.CACHE_MEMORY_EFFICIENT);
+    }
+
+    @Test
+    public void testDiskCache() throws IOException, DocumentException {
+        checkCounter(RtfDataCache.CACHE_DISK);
+    }
+
+    @Test
+    public void testHybridCache() throws IOException, DocumentException {
+        checkCounter(RtfDataCache.CACHE_HYBRID);
+    }
+
+    @Test
+    public void testStreamCache() throws IOException, DocumentException {
+        checkCounter(RtfDataCache.CACHE_STREAM);
+    }
+}
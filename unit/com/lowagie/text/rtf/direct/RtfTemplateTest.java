@@ -0,0 +1,84 @@
+package com.lowagie.text.rtf.direct;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.rtf.RtfWriter2;
+import com.lowagie.text.rtf.document.output.RtfDataCache;
+import com.lowagie.text.rtf.document.output.RtfLogger;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that stamps of a RtfTemplate produce the same RTF as the elements they replace.
+ */
+public class RtfTemplateTest {
+
+    private static final Font FONT = new Font(Font.COURIER, 10, Font.BOLD, new Color(10, 20, 30));
+
+    private static final RtfLogger FAILING_LOGGER = new RtfLogger() {
+
+        @Override
+        public void warn(String message) {
+            fail(message);
+        }
+
+        @Override
+        public void error(Throwable error) {
+            throw new AssertionError(error);
+        }
+    };
+
+    private static String write(int dataCacheStyle, ExecutorService executor, boolean stamped) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2 writer = RtfWriter2.getInstance(document, out);
+        writer.getDocumentSettings().setDataCacheStyle(dataCacheStyle);
+        writer.getDocumentSettings().setRenderExecutor(executor);
+        writer.getDocumentSettings().setLogger(FAILING_LOGGER);
+        document.open();
+        RtfTemplate template = new RtfTemplate("name", "amount");
+        template.add(new Paragraph("Dear " + template.getParameter("name") + ",", FONT));
+        template.add(new Paragraph("you owe " + template.getParameter("amount") + " {EUR}"));
+        for (int i = 0; i < 50; i++) {
+            String name = "Näme\\" + i;
+            String amount = String.valueOf(i * 100);
+            if (stamped) {
+                document.add(template.stamp(name, amount));
+            } else {
+                document.add(new Paragraph("Dear " + name + ",", FONT));
+                document.add(new Paragraph("you owe " + amount + " {EUR}"));
+            }
+        }
+        document.close();
+        return out.toString();
+    }
+
+    @Test
+    public void testStampedSameAsElements() throws DocumentException {
+        assertEquals(write(RtfDataCache.CACHE_MEMORY, null, false), write(RtfDataCache.CACHE_MEMORY, null, true));
+    }
+
+    @Test
+    public void testStampedStreaming() throws DocumentException {
+        assertEquals(write(RtfDataCache.CACHE_STREAM, null, false), write(RtfDataCache.CACHE_STREAM, null, true));
+    }
+
+    @Test
+    public void testStampedWithRenderExecutor() throws DocumentException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(write(RtfDataCache.CACHE_STREAM, null, false), write(RtfDataCache.CACHE_STREAM, executor, true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
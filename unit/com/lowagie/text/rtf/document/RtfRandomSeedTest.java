@@ -0,0 +1,47 @@
+package com.lowagie.text.rtf.document;
+
+import com.lowagie.text.Annotation;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.List;
+import com.lowagie.text.ListItem;
+import com.lowagie.text.rtf.RtfWriter2;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the seed of the random ids of lists, shapes and annotations.
+ */
+public class RtfRandomSeedTest {
+
+    private static String write(int seed) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2 writer = RtfWriter2.getInstance(document, out);
+        writer.getDocumentSettings().setRandomSeed(seed);
+        document.open();
+        List list = new List(List.ORDERED);
+        list.add(new ListItem("one"));
+        document.add(list);
+        document.add(new Annotation("author", "note"));
+        document.close();
+        return out.toString();
+    }
+
+    @Test
+    public void testSameSeedSameOutput() throws DocumentException {
+        assertEquals(write(7), write(7));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSeedAfterFirstId() throws DocumentException {
+        Document document = new Document();
+        RtfWriter2 writer = RtfWriter2.getInstance(document, new ByteArrayOutputStream());
+        document.open();
+        document.add(new Annotation("author", "note"));
+        writer.getDocumentSettings().setRandomSeed(7);
+    }
+}
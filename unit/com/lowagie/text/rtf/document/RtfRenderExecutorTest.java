@@ -0,0 +1,82 @@
+package com.lowagie.text.rtf.document;
+
+import com.lowagie.text.Annotation;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.List;
+import com.lowagie.text.ListItem;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Table;
+import com.lowagie.text.rtf.RtfWriter2;
+import com.lowagie.text.rtf.graphic.RtfShape;
+import com.lowagie.text.rtf.graphic.RtfShapePosition;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that rendering the elements with a render executor gives the same output as rendering them serially.
+ */
+public class RtfRenderExecutorTest {
+
+    private static String write(Executor executor) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2 writer = RtfWriter2.getInstance(document, out);
+        writer.getDocumentSettings().setRandomSeed(42);
+        writer.getDocumentSettings().setRenderExecutor(executor);
+        document.open();
+        Font font = new Font(Font.HELVETICA, 11, Font.ITALIC, Color.BLUE);
+        for (int i = 0; i < 200; i++) {
+            document.add(new Paragraph("Paragraph " + i, i % 2 == 0 ? font : new Font()));
+            if (i % 20 == 0) {
+                Table table = new Table(3);
+                for (int j = 0; j < 12; j++) {
+                    table.addCell("cell " + i + "." + j);
+                }
+                document.add(table);
+                List list = new List(List.ORDERED);
+                list.add(new ListItem("item " + i));
+                list.add(new ListItem("next " + i));
+                document.add(list);
+                document.add(new Annotation("author " + i, "note " + i));
+                document.add(new RtfShape(RtfShape.SHAPE_RECTANGLE, new RtfShapePosition(0, 0, 100, 100)));
+            }
+        }
+        document.close();
+        return out.toString();
+    }
+
+    @Test
+    public void testSameOutputWithExecutor() throws DocumentException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(write(null), write(executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectingExecutor() throws DocumentException {
+        Executor rejecting = command -> {
+            throw new RejectedExecutionException();
+        };
+        assertEquals(write(null), write(rejecting));
+    }
+
+    @Test
+    public void testShutDownExecutor() throws DocumentException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        assertEquals(write(null), write(executor));
+    }
+}
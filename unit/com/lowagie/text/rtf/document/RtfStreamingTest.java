@@ -0,0 +1,137 @@
+package com.lowagie.text.rtf.document;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.List;
+import com.lowagie.text.ListItem;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.rtf.RtfWriter2;
+import com.lowagie.text.rtf.document.output.RtfDataCache;
+import com.lowagie.text.rtf.document.output.RtfLogger;
+import com.lowagie.text.rtf.style.RtfParagraphStyle;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the CACHE_STREAM data cache, which writes the document header before the first element.
+ */
+public class RtfStreamingTest {
+
+    private final java.util.List<String> warnings = new ArrayList<>();
+
+    private final RtfLogger logger = new RtfLogger() {
+
+        @Override
+        public void warn(String message) {
+            warnings.add(message);
+        }
+
+        @Override
+        public void error(Throwable error) {
+            throw new AssertionError(error);
+        }
+    };
+
+    private interface Content {
+
+        void add(Document document, RtfWriter2 writer) throws DocumentException;
+    }
+
+    private String write(int dataCacheStyle, Content content) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2 writer = RtfWriter2.getInstance(document, out);
+        writer.getDocumentSettings().setDataCacheStyle(dataCacheStyle);
+        writer.getDocumentSettings().setRandomSeed(1);
+        writer.getDocumentSettings().setLogger(logger);
+        document.open();
+        content.add(document, writer);
+        document.close();
+        return out.toString();
+    }
+
+    private boolean hasWarning(String start) {
+        return warnings.stream().anyMatch(message -> message.startsWith(start));
+    }
+
+    private long countWarnings(String start) {
+        return warnings.stream().filter(message -> message.startsWith(start)).count();
+    }
+
+    @Test
+    public void testSameOutputAsMemoryCache() throws DocumentException {
+        Content content = (document, writer) -> {
+            Font font = new Font(Font.HELVETICA, 12, Font.BOLD, Color.RED);
+            writer.getDocumentSettings().registerFont(font);
+            writer.getDocumentSettings().registerColor(Color.RED);
+            for (int i = 0; i < 20; i++) {
+                document.add(new Paragraph("Paragraph " + i, font));
+            }
+        };
+        String streamed = write(RtfDataCache.CACHE_STREAM, content);
+        assertEquals(write(RtfDataCache.CACHE_MEMORY, content), streamed);
+        assertTrue(warnings.isEmpty());
+    }
+
+    @Test
+    public void testFontAndColorAfterHeader() throws DocumentException {
+        String rtf = write(RtfDataCache.CACHE_STREAM, (document, writer) -> {
+            document.add(new Paragraph("first"));
+            document.add(new Paragraph("late", new Font(Font.COURIER, 12, Font.NORMAL, new Color(1, 2, 3))));
+        });
+        assertTrue(hasWarning("Font Courier"));
+        assertTrue(hasWarning("Color 1,2,3"));
+        assertFalse(rtf.contains("Courier"));
+        assertFalse(rtf.contains("\\red1\\green2\\blue3"));
+        assertTrue(rtf.contains("\\f0\\fs24\\cf0 late"));
+    }
+
+    @Test
+    public void testOneWarningPerLateFontAndColor() throws DocumentException {
+        write(RtfDataCache.CACHE_STREAM, (document, writer) -> {
+            document.add(new Paragraph("first"));
+            Font font = new Font(Font.COURIER, 12, Font.NORMAL, new Color(1, 2, 3));
+            for (int i = 0; i < 100; i++) {
+                document.add(new Paragraph("late " + i, font));
+            }
+        });
+        assertEquals(1, countWarnings("Font Courier"));
+        assertEquals(1, countWarnings("Color 1,2,3"));
+    }
+
+    @Test
+    public void testListAfterHeader() throws DocumentException {
+        String rtf = write(RtfDataCache.CACHE_STREAM, (document, writer) -> {
+            document.add(new Paragraph("first"));
+            List list = new List(List.ORDERED);
+            list.add(new ListItem("one"));
+            list.add(new ListItem("two"));
+            document.add(list);
+        });
+        assertTrue(hasWarning("List was created"));
+        assertFalse(rtf.contains("\\ls"));
+        assertTrue(rtf.contains("one"));
+        assertTrue(rtf.contains("two"));
+    }
+
+    @Test
+    public void testParagraphStyleAfterHeader() throws DocumentException {
+        RtfParagraphStyle style = new RtfParagraphStyle("Late", "Courier", 12, Font.NORMAL, Color.BLACK);
+        String rtf = write(RtfDataCache.CACHE_STREAM, (document, writer) -> {
+            document.add(new Paragraph("first"));
+            writer.getDocumentSettings().registerParagraphStyle(style);
+            document.add(new Paragraph("styled", style));
+        });
+        assertTrue(hasWarning("Paragraph style Late"));
+        assertFalse(rtf.contains("Late"));
+        assertTrue(rtf.contains("styled"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.lowagie.text.rtf.document.output;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Tests copying the content of the RtfDiskCache to streams and channels.
+ */
+public class RtfDiskCacheTest {
+
+    /**
+     * A channel that accepts nothing for the first writes, like a non-blocking socket with a full buffer.
+     */
+    private static final class SlowChannel implements WritableByteChannel {
+
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private int refused;
+
+        private SlowChannel(int refused) {
+            this.refused = refused;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            if (refused > 0) {
+                refused--;
+                return 0;
+            }
+            int n = Math.min(src.remaining(), 1000);
+            for (int i = 0; i < n; i++) {
+                data.write(src.get());
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static byte[] content(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + i % 26);
+        }
+        return bytes;
+    }
+
+    @Test
+    public void testWriteToStream() throws IOException {
+        byte[] bytes = content(10000);
+        RtfDiskCache cache = new RtfDiskCache(null, 1024);
+        cache.getOutputStream().write(bytes);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.writeTo(out);
+        assertArrayEquals(bytes, out.toByteArray());
+    }
+
+    @Test
+    public void testWriteToChannelWithoutProgress() throws IOException {
+        byte[] bytes = content(10000);
+        RtfDiskCache cache = new RtfDiskCache(null, 1024);
+        cache.getOutputStream().write(bytes);
+        SlowChannel target = new SlowChannel(3);
+        cache.writeTo(target);
+        assertArrayEquals(bytes, target.data.toByteArray());
+    }
+}
@@ -0,0 +1,113 @@
+package com.lowagie.text.rtf.document.output;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.ExceptionConverter;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.rtf.RtfWriter2;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the RtfHybridCache spilling to disk and giving back its memory budget.
+ */
+public class RtfHybridCacheTest {
+
+    @After
+    public void resetBudget() {
+        RtfHybridCache.setGlobalMemoryBudget(Long.MAX_VALUE);
+    }
+
+    private static byte[] content(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + i % 26);
+        }
+        return bytes;
+    }
+
+    @Test
+    public void testSpillToDisk() throws IOException {
+        RtfHybridCache cache = new RtfHybridCache(1000, null, 1024);
+        byte[] bytes = content(3000);
+        cache.getOutputStream().write(bytes, 0, 500);
+        assertFalse(cache.isOnDisk());
+        cache.getOutputStream().write(bytes, 500, 1000);
+        assertTrue(cache.isOnDisk());
+        cache.getOutputStream().write(bytes, 1500, 1500);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.writeTo(out);
+        assertArrayEquals(bytes, out.toByteArray());
+    }
+
+    @Test
+    public void testBudgetReleasedOnWrite() throws IOException {
+        long used = RtfHybridCache.getGlobalMemoryUsed();
+        RtfHybridCache cache = new RtfHybridCache();
+        cache.getOutputStream().write(content(100000));
+        assertTrue(RtfHybridCache.getGlobalMemoryUsed() > used);
+        cache.writeTo(new ByteArrayOutputStream());
+        assertEquals(used, RtfHybridCache.getGlobalMemoryUsed());
+    }
+
+    @Test
+    public void testBudgetExceeded() throws IOException {
+        long used = RtfHybridCache.getGlobalMemoryUsed();
+        RtfHybridCache.setGlobalMemoryBudget(used + 150000);
+        RtfHybridCache first = new RtfHybridCache();
+        RtfHybridCache second = new RtfHybridCache();
+        first.getOutputStream().write(content(100000));
+        second.getOutputStream().write(content(100000));
+        assertFalse(first.isOnDisk());
+        assertTrue(second.isOnDisk());
+        first.close();
+        second.close();
+        assertEquals(used, RtfHybridCache.getGlobalMemoryUsed());
+    }
+
+    @Test
+    public void testBudgetReleasedOnFailedDocument() {
+        long used = RtfHybridCache.getGlobalMemoryUsed();
+        OutputStream failing = new OutputStream() {
+
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        Document document = new Document();
+        RtfWriter2 writer = RtfWriter2.getInstance(document, failing);
+        writer.getDocumentSettings().setDataCacheStyle(RtfDataCache.CACHE_HYBRID);
+        document.open();
+        try {
+            char[] text = new char[1000];
+            Arrays.fill(text, 'x');
+            for (int i = 0; i < 100; i++) {
+                document.add(new Paragraph(new String(text)));
+            }
+            assertTrue(RtfHybridCache.getGlobalMemoryUsed() > used);
+            document.close();
+            fail("the failing stream did not fail");
+        } catch (ExceptionConverter expected) {
+            // the document could not be written
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        assertEquals(used, RtfHybridCache.getGlobalMemoryUsed());
+    }
+}
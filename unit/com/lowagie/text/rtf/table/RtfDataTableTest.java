@@ -0,0 +1,121 @@
+package com.lowagie.text.rtf.table;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Table;
+import com.lowagie.text.rtf.RtfWriter2;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that a RtfDataTable produces the same RTF as the equivalent Table.
+ */
+public class RtfDataTableTest {
+
+    private static final String[][] ROWS = {
+        {"Id", "Name", "Amount", "Notes"},
+        {"1", "Smith {x}", "12.5", "äöü 中文 \\ $newpage$"},
+        {"2", "", null, "tab\there\nline"},
+        {"3", "Jones", "-7", "z"},
+        {"4", "Müller", "0.25", "last"},
+    };
+    private static final String[] LAST_ROW = {"5", "2.5", "x", ""};
+    private static final int[] STYLES = {1, 0, 2, 0, 2};
+    private static final int[] ALIGNMENTS = {Element.ALIGN_RIGHT, Element.ALIGN_LEFT, Element.ALIGN_RIGHT, Element.ALIGN_JUSTIFIED};
+    private static final Font BOLD = new Font(Font.HELVETICA, 10, Font.BOLD, new Color(10, 100, 10));
+    private static final Font ITALIC = new Font(Font.COURIER, 9, Font.ITALIC);
+    private static final Font[] FONTS = {null, BOLD, ITALIC};
+    private static final Color[] BACKGROUNDS = {null, Color.LIGHT_GRAY, new Color(240, 240, 255)};
+
+    private static Table format(boolean fitsPage, float offset) throws DocumentException {
+        Table table = new Table(4);
+        table.setWidths(new int[] {3, 1, 2, 5});
+        table.setWidth(95);
+        table.setPadding(1.5f);
+        table.setBorderColor(Color.RED);
+        table.getDefaultCell().setBorderColor(Color.BLUE);
+        table.getDefaultCell().setVerticalAlignment(Element.ALIGN_TOP);
+        table.setTableFitsPage(fitsPage);
+        table.setCellsFitPage(fitsPage);
+        table.setOffset(offset);
+        return table;
+    }
+
+    private static RtfDataTable dataTable(Table format) {
+        RtfDataTable table = new RtfDataTable(format);
+        for (int c = 0; c < ALIGNMENTS.length; c++) {
+            table.setColumnAlignment(c, ALIGNMENTS[c]);
+        }
+        table.addStyle(BOLD, BACKGROUNDS[1]);
+        table.addStyle(ITALIC, BACKGROUNDS[2]);
+        table.setHeaderRows(1);
+        for (int r = 0; r < ROWS.length; r++) {
+            table.addRow(STYLES[r], ROWS[r]);
+        }
+        table.startRow();
+        table.addValue(5).addValue(2.5).addValue("x");
+        return table;
+    }
+
+    private static Table table(Table format) throws DocumentException {
+        for (int r = 0; r < ROWS.length; r++) {
+            for (int c = 0; c < ALIGNMENTS.length; c++) {
+                format.getDefaultCell().setHorizontalAlignment(ALIGNMENTS[c]);
+                format.getDefaultCell().setBackgroundColor(BACKGROUNDS[STYLES[r]]);
+                String value = ROWS[r][c] == null ? "" : ROWS[r][c];
+                Font font = FONTS[STYLES[r]];
+                format.addCell(font == null ? new Phrase(value) : new Phrase(value, font));
+            }
+            if (r == 0) {
+                format.endHeaders();
+            }
+        }
+        for (int c = 0; c < ALIGNMENTS.length; c++) {
+            format.getDefaultCell().setHorizontalAlignment(ALIGNMENTS[c]);
+            format.getDefaultCell().setBackgroundColor(null);
+            format.addCell(new Phrase(LAST_ROW[c]));
+        }
+        return format;
+    }
+
+    private static String write(Element table, boolean rowDefinitionAfter) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2 writer = RtfWriter2.getInstance(document, out);
+        writer.getDocumentSettings().setOutputTableRowDefinitionAfter(rowDefinitionAfter);
+        document.open();
+        document.add(new Paragraph("before"));
+        document.add(table);
+        document.add(new Paragraph("after"));
+        document.close();
+        return out.toString();
+    }
+
+    private static void checkSameOutput(boolean fitsPage, float offset, boolean rowDefinitionAfter) throws DocumentException {
+        String expected = write(table(format(fitsPage, offset)), rowDefinitionAfter);
+        assertEquals(expected, write(dataTable(format(fitsPage, offset)), rowDefinitionAfter));
+    }
+
+    @Test
+    public void testSameOutputAsTable() throws DocumentException {
+        checkSameOutput(false, Float.NaN, true);
+    }
+
+    @Test
+    public void testTableFitsPage() throws DocumentException {
+        checkSameOutput(true, Float.NaN, true);
+    }
+
+    @Test
+    public void testOffsetWithoutRowDefinitionAfter() throws DocumentException {
+        checkSameOutput(false, 3, false);
+    }
+}
@@ -0,0 +1,153 @@
+package com.lowagie.text.rtf.table;
+
+import com.lowagie.text.BadElementException;
+import com.lowagie.text.Cell;
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Row;
+import com.lowagie.text.Table;
+import com.lowagie.text.rtf.RtfWriter2;
+import org.junit.Test;
+
+import java.awt.Dimension;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests merging tables inserted into a Table, both when only the rows holding
+ * the tables are replaced and when the whole table is rebuilt.
+ */
+public class RtfNestedTableTest {
+
+    private static Table inner(int columns, int rows, String prefix) throws BadElementException {
+        Table table = new Table(columns);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                table.addCell(prefix + r + c);
+            }
+        }
+        return table;
+    }
+
+    private static List<Row> rows(Table table) {
+        List<Row> rows = new ArrayList<>();
+        table.iterator().forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static Cell cell(Table table, int row, int column) {
+        Element element = table.getElement(row, column);
+        return element instanceof Cell ? (Cell) element : null;
+    }
+
+    private static String text(Table table, int row, int column) {
+        Cell cell = cell(table, row, column);
+        if (cell == null)
+            return null;
+        StringBuilder buf = new StringBuilder();
+        for (Element chunk : cell.getChunks()) {
+            buf.append(((Chunk) chunk).getContent());
+        }
+        return buf.toString();
+    }
+
+    private static int countRows(Table table) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2.getInstance(document, out);
+        document.open();
+        document.add(table);
+        document.close();
+        return out.toString().split("\\\\row\\b", -1).length - 1;
+    }
+
+    @Test
+    public void testRowsReplaced() throws DocumentException {
+        Table table = new Table(3);
+        for (int r = 0; r < 4; r++) {
+            table.addCell("a" + r);
+            if (r % 2 == 0) {
+                table.insertTable(inner(1, 3, "i" + r));
+            } else {
+                table.addCell("b" + r);
+            }
+            table.addCell("c" + r);
+        }
+        List<Row> before = rows(table);
+        table.complete();
+        List<Row> after = rows(table);
+
+        assertEquals(new Dimension(3, 8), table.getDimension());
+        assertSame(before.get(1), after.get(3));
+        assertSame(before.get(3), after.get(7));
+        for (int r = 0; r < 2; r++) {
+            int row = r * 4;
+            assertEquals("a" + r * 2, text(table, row, 0));
+            assertEquals(3, cell(table, row, 0).getRowspan());
+            assertEquals(3, cell(table, row, 2).getRowspan());
+            for (int k = 0; k < 3; k++) {
+                assertEquals("i" + r * 2 + k + "0", text(table, row + k, 1));
+            }
+            assertNull(table.getElement(row + 1, 0));
+            assertNull(table.getElement(row + 2, 2));
+            assertEquals("b" + (r * 2 + 1), text(table, row + 3, 1));
+        }
+        assertEquals(8, countRows(table));
+    }
+
+    @Test
+    public void testColumnsSplit() throws DocumentException {
+        Table table = new Table(3);
+        table.addCell("a");
+        table.insertTable(inner(2, 2, "q"));
+        table.addCell("b");
+        table.addCell("x");
+        table.addCell("y");
+        table.addCell("z");
+        table.complete();
+
+        assertEquals(new Dimension(4, 3), table.getDimension());
+        assertArrayEquals(new float[] {100 / 3f, 100 / 6f, 100 / 6f, 100 / 3f}, table.getProportionalWidths(), 0.001f);
+        assertEquals(2, cell(table, 0, 0).getRowspan());
+        assertEquals("q00", text(table, 0, 1));
+        assertEquals("q01", text(table, 0, 2));
+        assertEquals("q10", text(table, 1, 1));
+        assertEquals("q11", text(table, 1, 2));
+        assertEquals(2, cell(table, 0, 3).getRowspan());
+        assertEquals("y", text(table, 2, 1));
+        assertEquals(2, cell(table, 2, 1).getColspan());
+        assertEquals("z", text(table, 2, 3));
+        assertEquals(3, countRows(table));
+    }
+
+    @Test
+    public void testRowSpannedFromAbove() throws DocumentException {
+        Table table = new Table(3);
+        Cell down = new Cell("down");
+        down.setRowspan(2);
+        table.addCell(down);
+        table.addCell("m");
+        table.addCell("n");
+        table.insertTable(inner(1, 3, "s"));
+        table.addCell("o");
+        table.complete();
+
+        assertEquals(new Dimension(3, 4), table.getDimension());
+        assertEquals("down", text(table, 0, 0));
+        for (int k = 0; k < 3; k++) {
+            assertNull(table.getElement(k + 1, 0));
+            assertEquals("s" + k + "0", text(table, k + 1, 1));
+        }
+        assertEquals("o", text(table, 1, 2));
+        assertEquals(3, cell(table, 1, 2).getRowspan());
+        assertEquals(4, countRows(table));
+    }
+}
@@ -0,0 +1,99 @@
+package com.lowagie.text.rtf.table;
+
+import com.lowagie.text.BadElementException;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Table;
+import com.lowagie.text.rtf.RtfWriter2;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests adding an incomplete Table in several parts, as a LargeElement.
+ */
+public class RtfTableFlushTest {
+
+    private static int count(String rtf, String text) {
+        int count = 0;
+        for (int i = rtf.indexOf(text); i >= 0; i = rtf.indexOf(text, i + text.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static void addRow(Table table, String name) throws BadElementException {
+        table.addCell(name + "a");
+        table.addCell(name + "b");
+    }
+
+    private static String writeFlushed(int firstHeaderCells) throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2.getInstance(document, out);
+        document.open();
+        Table table = new Table(2);
+        table.setComplete(false);
+        table.setLastHeaderRow(1);
+        addRow(table, "H0");
+        for (int i = 0; i < firstHeaderCells; i++) {
+            table.addCell("H1" + (char) ('a' + i));
+        }
+        document.add(table);
+        for (int i = firstHeaderCells; i < 2; i++) {
+            table.addCell("H1" + (char) ('a' + i));
+        }
+        for (int i = 0; i < 25; i++) {
+            addRow(table, "R" + i + "x");
+            if (i % 10 == 9) {
+                document.add(table);
+            }
+        }
+        table.setComplete(true);
+        document.add(table);
+        document.close();
+        return out.toString();
+    }
+
+    private static String writeComplete() throws DocumentException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        RtfWriter2.getInstance(document, out);
+        document.open();
+        Table table = new Table(2);
+        table.setLastHeaderRow(1);
+        addRow(table, "H0");
+        addRow(table, "H1");
+        for (int i = 0; i < 25; i++) {
+            addRow(table, "R" + i + "x");
+        }
+        document.add(table);
+        document.close();
+        return out.toString();
+    }
+
+    private static void assertSameRows(String expected, String actual) {
+        assertEquals(count(expected, "\\row"), count(actual, "\\row"));
+        assertEquals(count(expected, "\\trhdr"), count(actual, "\\trhdr"));
+        int last = -1;
+        for (String name : new String[] {"H0a", "H0b", "H1a", "H1b", "R0xa", "R9xb", "R10xa", "R24xb"}) {
+            assertEquals(name, 1, count(actual, name));
+            int pos = actual.indexOf(name);
+            assertTrue(name, pos > last);
+            last = pos;
+        }
+    }
+
+    @Test
+    public void testFlushedRows() throws DocumentException {
+        assertSameRows(writeComplete(), writeFlushed(2));
+    }
+
+    @Test
+    public void testFlushBeforeHeaderComplete() throws DocumentException {
+        assertSameRows(writeComplete(), writeFlushed(1));
+    }
+}